@@ -0,0 +1,24 @@
+package com.mile.common.auth;
+
+import com.mile.writername.service.vo.WriterNameInfo;
+
+import java.util.HashMap;
+
+/*
+요청마다 한 번 검증한 액세스 토큰의 사용자 정보
+ */
+public record AuthContext(
+        Long userId,
+        JoinedRoleMap joinedRole
+) {
+    public static AuthContext of(
+            final Long userId,
+            final JoinedRoleMap joinedRole
+    ) {
+        return new AuthContext(userId, joinedRole == null ? JoinedRoleMap.empty() : joinedRole);
+    }
+
+    public HashMap<Long, WriterNameInfo> getJoinedRoleMap() {
+        return joinedRole.toHashMap();
+    }
+}
@@ -0,0 +1,86 @@
+package com.mile.common.auth;
+
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.MileException;
+import com.mile.exception.model.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * AuthContextFilter 가 요청 속성에 저장한 인증 정보를 꺼낸다.
+ * <p>
+ * 필터는 토큰 파싱을 예약만 하고, 인증 정보를 처음 조회할 때 한 번 파싱해 요청 속성에 저장한다.
+ * 따라서 인증 정보를 쓰지 않는 핸들러는 토큰이 있어도 JWT 검증을 하지 않는다.
+ * 토큰 검증 실패는 바로 응답하지 않고, 인증이 필요한 곳에서 조회할 때 같은 예외로 다시 던진다.
+ */
+public class AuthContextHolder {
+
+    private static final String AUTH_CONTEXT = AuthContextHolder.class.getName() + ".CONTEXT";
+    private static final String AUTH_ERROR = AuthContextHolder.class.getName() + ".ERROR";
+    private static final String AUTH_PARSER = AuthContextHolder.class.getName() + ".PARSER";
+
+    public static void setAuthParser(
+            final HttpServletRequest request,
+            final Supplier<AuthContext> parser
+    ) {
+        request.setAttribute(AUTH_PARSER, new PendingAuthContext(parser));
+    }
+
+    public static void setAuthContext(
+            final HttpServletRequest request,
+            final AuthContext authContext
+    ) {
+        request.setAttribute(AUTH_CONTEXT, authContext);
+    }
+
+    public static void setAuthError(
+            final HttpServletRequest request,
+            final MileException exception
+    ) {
+        request.setAttribute(AUTH_ERROR, exception);
+    }
+
+    public static AuthContext getAuthContext(final HttpServletRequest request) {
+        parseIfPending(request);
+        if (request.getAttribute(AUTH_ERROR) instanceof MileException exception) {
+            throw exception;
+        }
+        if (request.getAttribute(AUTH_CONTEXT) instanceof AuthContext authContext) {
+            return authContext;
+        }
+        throw new UnauthorizedException(ErrorMessage.UN_LOGIN_EXCEPTION);
+    }
+
+    /*
+    인증이 필수가 아닌 곳에서 사용하며, 토큰이 없거나 유효하지 않으면 빈 값을 반환한다.
+     */
+    public static Optional<AuthContext> findAuthContext(final HttpServletRequest request) {
+        parseIfPending(request);
+        if (request.getAttribute(AUTH_CONTEXT) instanceof AuthContext authContext) {
+            return Optional.of(authContext);
+        }
+        return Optional.empty();
+    }
+
+    /*
+    토큰 파싱 중의 예외는 종류와 관계 없이 인증 실패로 저장해, 인증이 필요 없는 핸들러가 500 으로 응답하지 않게 한다.
+     */
+    private static void parseIfPending(final HttpServletRequest request) {
+        if (!(request.getAttribute(AUTH_PARSER) instanceof PendingAuthContext pending)) {
+            return;
+        }
+        request.removeAttribute(AUTH_PARSER);
+        try {
+            setAuthContext(request, pending.parser().get());
+        } catch (MileException e) {
+            setAuthError(request, e);
+        } catch (RuntimeException e) {
+            setAuthError(request, new UnauthorizedException(ErrorMessage.TOKEN_VALIDATION_ERROR));
+        }
+    }
+
+    private record PendingAuthContext(Supplier<AuthContext> parser) {
+    }
+}
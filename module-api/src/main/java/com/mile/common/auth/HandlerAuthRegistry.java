@@ -0,0 +1,104 @@
+package com.mile.common.auth;
+
+import com.mile.common.auth.annotation.UserAuthenticationType;
+import com.mile.common.auth.dto.HandlerAuthResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 시 모든 핸들러의 UserAuthAnnotation 과 모임 id 경로 변수를 미리 계산해 둔다.
+ * <p>
+ * MoimAuthInterceptor 는 요청마다 리플렉션 대신 핸들러 메서드로 한 번만 조회한다.
+ * HandlerMethod 는 요청마다 새로 만들어지지만 내부의 Method 인스턴스는 등록 시점의 것을 그대로 사용하므로 IdentityHashMap 의 키로 쓴다.
+ */
+@Slf4j
+@Component
+public class HandlerAuthRegistry implements ApplicationListener<ContextRefreshedEvent> {
+
+    private static final String HANDLER_MAPPING = "requestMappingHandlerMapping";
+    private static final String MOIM_ID = "moimId";
+    private static final String MOIM_ID_VARIABLE = "{" + MOIM_ID + "}";
+
+    private volatile Map<Method, HandlerAuthRequirement> requirements = new IdentityHashMap<>();
+    private volatile List<HandlerAuthResponse> entries = List.of();
+
+    @Override
+    public void onApplicationEvent(final ContextRefreshedEvent event) {
+        if (!event.getApplicationContext().containsBean(HANDLER_MAPPING)) {
+            return;
+        }
+        RequestMappingHandlerMapping handlerMapping = event.getApplicationContext()
+                .getBean(HANDLER_MAPPING, RequestMappingHandlerMapping.class);
+
+        Map<Method, HandlerAuthRequirement> newRequirements = new IdentityHashMap<>();
+        List<HandlerAuthResponse> newEntries = new ArrayList<>();
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            HandlerAuthRequirement requirement = HandlerAuthRequirement.of(handlerMethod.getMethod(), getMoimIdVariable(info));
+            validate(handlerMethod, requirement);
+            newRequirements.put(handlerMethod.getMethod(), requirement);
+            newEntries.add(HandlerAuthResponse.of(
+                    getHandlerName(handlerMethod),
+                    info.getMethodsCondition().getMethods().stream().map(Enum::name).collect(Collectors.toSet()),
+                    info.getPatternValues(),
+                    requirement.authenticationType(),
+                    requirement.moimIdVariable()
+            ));
+        });
+        newEntries.sort(Comparator.comparing(entry -> entry.patterns().toString()));
+
+        requirements = newRequirements;
+        entries = List.copyOf(newEntries);
+        log.info("핸들러 인증 정보 등록 완료 : 총 {}개의 핸들러", newRequirements.size());
+    }
+
+    /*
+    등록되지 않은 핸들러(다른 HandlerMapping 의 핸들러)는 어노테이션을 직접 확인한다.
+     */
+    public HandlerAuthRequirement getRequirement(final HandlerMethod handlerMethod) {
+        HandlerAuthRequirement requirement = requirements.get(handlerMethod.getMethod());
+        if (requirement != null) {
+            return requirement;
+        }
+        return HandlerAuthRequirement.of(handlerMethod.getMethod(), MOIM_ID);
+    }
+
+    public List<HandlerAuthResponse> getEntries() {
+        return entries;
+    }
+
+    private String getHandlerName(final HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+    }
+
+    private String getMoimIdVariable(final RequestMappingInfo info) {
+        Set<String> patterns = info.getPatternValues();
+        if (!patterns.isEmpty() && patterns.stream().allMatch(pattern -> pattern.contains(MOIM_ID_VARIABLE))) {
+            return MOIM_ID;
+        }
+        return null;
+    }
+
+    private void validate(
+            final HandlerMethod handlerMethod,
+            final HandlerAuthRequirement requirement
+    ) {
+        UserAuthenticationType type = requirement.authenticationType();
+        if ((type == UserAuthenticationType.OWNER || type == UserAuthenticationType.WRITER_NAME) && requirement.moimIdVariable() == null) {
+            log.warn("모임 권한이 필요한 핸들러에 모임 id 경로 변수가 없습니다 -> {}", getHandlerName(handlerMethod));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.mile.common.auth;
+
+import com.mile.common.auth.annotation.UserAuthAnnotation;
+import com.mile.common.auth.annotation.UserAuthenticationType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/*
+핸들러 별 인증 요구 사항. authenticationType 이 null 이면 인증이 필요 없는 핸들러다.
+ */
+public record HandlerAuthRequirement(
+        UserAuthenticationType authenticationType,
+        String moimIdVariable
+) {
+    private static final HandlerAuthRequirement NONE = new HandlerAuthRequirement(null, null);
+
+    public static HandlerAuthRequirement none() {
+        return NONE;
+    }
+
+    public static HandlerAuthRequirement of(
+            final Method method,
+            final String moimIdVariable
+    ) {
+        UserAuthAnnotation annotation = AnnotatedElementUtils.findMergedAnnotation(method, UserAuthAnnotation.class);
+        if (annotation == null) {
+            return NONE;
+        }
+        return new HandlerAuthRequirement(annotation.value(), moimIdVariable);
+    }
+
+    public boolean isRequired() {
+        return authenticationType != null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.mile.common.auth;
+
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.UnauthorizedException;
+import com.mile.writername.domain.MoimRole;
+import com.mile.writername.service.vo.WriterNameInfo;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * joinedRole 클레임을 (모임 id, 필명 id, 역할) 묶음의 바이너리로 압축해 base64url 문자열로 인코딩한다.
+ * <p>
+ * 형식: [버전 1byte][개수 varint] 이후 모임 id 오름차순으로 [모임 id 차이 varint][필명 id varint][역할 1byte]
+ */
+public class JoinedRoleCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte WRITER_CODE = 0;
+    private static final byte OWNER_CODE = 1;
+
+    public static String encode(final Map<Long, WriterNameInfo> joinedRole) {
+        JoinedRoleMap roleMap = JoinedRoleMap.of(joinedRole);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + roleMap.size() * 8);
+        out.write(VERSION);
+        writeVarLong(out, roleMap.size());
+        long previousMoimId = 0;
+        for (int i = 0; i < roleMap.size(); i++) {
+            writeVarLong(out, roleMap.moimIdAt(i) - previousMoimId);
+            writeVarLong(out, roleMap.writerNameIdAt(i));
+            out.write(toCode(roleMap.roleAt(i)));
+            previousMoimId = roleMap.moimIdAt(i);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    public static JoinedRoleMap decode(final String encoded) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(encoded);
+            Cursor cursor = new Cursor(bytes);
+            if (cursor.readByte() != VERSION) {
+                throw new UnauthorizedException(ErrorMessage.TOKEN_VALIDATION_ERROR);
+            }
+            int size = Math.toIntExact(cursor.readVarLong());
+            if (size > bytes.length) {
+                throw new UnauthorizedException(ErrorMessage.TOKEN_VALIDATION_ERROR);
+            }
+            long[] moimIds = new long[size];
+            long[] writerNameIds = new long[size];
+            MoimRole[] roles = new MoimRole[size];
+            long previousMoimId = 0;
+            for (int i = 0; i < size; i++) {
+                moimIds[i] = previousMoimId + cursor.readVarLong();
+                writerNameIds[i] = cursor.readVarLong();
+                roles[i] = toRole(cursor.readByte());
+                previousMoimId = moimIds[i];
+            }
+            return new JoinedRoleMap(moimIds, writerNameIds, roles);
+        } catch (IllegalArgumentException | ArithmeticException | ArrayIndexOutOfBoundsException e) {
+            throw new UnauthorizedException(ErrorMessage.TOKEN_VALIDATION_ERROR);
+        }
+    }
+
+    private static byte toCode(final MoimRole role) {
+        return switch (role) {
+            case WRITER -> WRITER_CODE;
+            case OWNER -> OWNER_CODE;
+        };
+    }
+
+    private static MoimRole toRole(final byte code) {
+        return switch (code) {
+            case WRITER_CODE -> MoimRole.WRITER;
+            case OWNER_CODE -> MoimRole.OWNER;
+            default -> throw new UnauthorizedException(ErrorMessage.TOKEN_VALIDATION_ERROR);
+        };
+    }
+
+    private static void writeVarLong(
+            final ByteArrayOutputStream out,
+            final long value
+    ) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static class Cursor {
+        private final byte[] bytes;
+        private int position;
+
+        private Cursor(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private byte readByte() {
+            return bytes[position++];
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 입니다.");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mile.common.auth;
+
+import com.mile.writername.domain.MoimRole;
+import com.mile.writername.service.vo.WriterNameInfo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토큰의 가입 모임 정보를 모임 id 기준으로 정렬된 원시 배열에 담는다.
+ * <p>
+ * 조회는 이진 탐색으로 처리하며, 기존 서비스 코드에 넘길 때만 HashMap 으로 변환한다.
+ */
+public class JoinedRoleMap {
+
+    private static final JoinedRoleMap EMPTY = new JoinedRoleMap(new long[0], new long[0], new MoimRole[0]);
+
+    private final long[] moimIds;
+    private final long[] writerNameIds;
+    private final MoimRole[] roles;
+
+    JoinedRoleMap(
+            final long[] moimIds,
+            final long[] writerNameIds,
+            final MoimRole[] roles
+    ) {
+        this.moimIds = moimIds;
+        this.writerNameIds = writerNameIds;
+        this.roles = roles;
+    }
+
+    public static JoinedRoleMap empty() {
+        return EMPTY;
+    }
+
+    public static JoinedRoleMap of(final Map<Long, WriterNameInfo> joinedRole) {
+        if (joinedRole == null || joinedRole.isEmpty()) {
+            return EMPTY;
+        }
+        long[] moimIds = joinedRole.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        long[] writerNameIds = new long[moimIds.length];
+        MoimRole[] roles = new MoimRole[moimIds.length];
+        for (int i = 0; i < moimIds.length; i++) {
+            WriterNameInfo writerNameInfo = joinedRole.get(moimIds[i]);
+            writerNameIds[i] = writerNameInfo.writerNameId();
+            roles[i] = writerNameInfo.moimRole();
+        }
+        return new JoinedRoleMap(moimIds, writerNameIds, roles);
+    }
+
+    public boolean containsMoim(final long moimId) {
+        return Arrays.binarySearch(moimIds, moimId) >= 0;
+    }
+
+    public long getWriterNameId(final long moimId) {
+        return writerNameIds[indexOf(moimId)];
+    }
+
+    public MoimRole getRole(final long moimId) {
+        return roles[indexOf(moimId)];
+    }
+
+    public int size() {
+        return moimIds.length;
+    }
+
+    long moimIdAt(final int index) {
+        return moimIds[index];
+    }
+
+    long writerNameIdAt(final int index) {
+        return writerNameIds[index];
+    }
+
+    MoimRole roleAt(final int index) {
+        return roles[index];
+    }
+
+    public HashMap<Long, WriterNameInfo> toHashMap() {
+        HashMap<Long, WriterNameInfo> joinedRole = new HashMap<>();
+        for (int i = 0; i < moimIds.length; i++) {
+            joinedRole.put(moimIds[i], WriterNameInfo.of(writerNameIds[i], roles[i]));
+        }
+        return joinedRole;
+    }
+
+    private int indexOf(final long moimId) {
+        int index = Arrays.binarySearch(moimIds, moimId);
+        if (index < 0) {
+            throw new IllegalArgumentException("가입하지 않은 모임입니다. moimId=" + moimId);
+        }
+        return index;
+    }
+}
@@ -10,6 +10,8 @@ import com.mile.writername.service.vo.WriterNameInfo;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -33,6 +35,7 @@ import java.util.Map;
 public class JwtTokenProvider {
 
     private final ObjectMapper objectMapper;
+    private final VerifiedTokenCache verifiedTokenCache;
     private static final String MEMBER_ID = "memberId";
     private static final String JOINED_ROLE = "joinedRole";
     private static final Long ACCESS_TOKEN_EXPIRATION_TIME = 48 * 60 * 60 * 1000L;
@@ -41,9 +44,16 @@ public class JwtTokenProvider {
     @Value("${jwt.secret}")
     private String JWT_SECRET;
 
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     @PostConstruct
     protected void init() {
         JWT_SECRET = Base64.getEncoder().encodeToString(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+        signingKey = createSigningKey();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     private String getTokenFromHeader(final String token) {
@@ -76,16 +86,16 @@ public class JwtTokenProvider {
                 .setExpiration(new Date(now.getTime() + expiredTime));
 
         claims.put(MEMBER_ID, userId);
-        claims.put(JOINED_ROLE, role);
+        claims.put(JOINED_ROLE, JoinedRoleCodec.encode(role));
 
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setClaims(claims)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    private SecretKey getSigningKey() {
+    private SecretKey createSigningKey() {
         String encodedKey = Base64.getEncoder().encodeToString(JWT_SECRET.getBytes());
         return Keys.hmacShaKeyFor(encodedKey.getBytes());
     }
@@ -106,26 +116,44 @@ public class JwtTokenProvider {
     }
 
     private Claims getBody(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    public Long getUserFromAuthHeader(final String token) {
-        Claims claims = getBody(getTokenFromHeader(token));
-        return Long.valueOf(claims.get(MEMBER_ID).toString());
+    /*
+    Authorization 헤더의 토큰을 한 번만 파싱해 사용자 id 와 가입한 모임 정보를 함께 꺼낸다.
+     */
+    public AuthContext parseAuthContext(final String token) {
+        final String jwt = getTokenFromHeader(token);
+        final AuthContext cachedContext = verifiedTokenCache.get(jwt);
+        if (cachedContext != null) {
+            return cachedContext;
+        }
+        try {
+            final Claims claims = getBody(jwt);
+            // 서명은 맞지만 사용자 id 나 만료 시각이 없거나 형식이 다른 토큰도 검증 실패로 처리한다.
+            final AuthContext authContext = AuthContext.of(Long.valueOf(claims.get(MEMBER_ID).toString()), getJoinedRole(claims));
+            verifiedTokenCache.put(jwt, authContext, claims.getExpiration().toInstant());
+            return authContext;
+        } catch (JwtException | IllegalArgumentException | NullPointerException ex) {
+            throw new UnauthorizedException(ErrorMessage.TOKEN_VALIDATION_ERROR);
+        }
     }
 
-    public HashMap<Long, WriterNameInfo> getJoinedRoleFromHeader(final String token) {
-        return getJoinedRoleFromJwt(getTokenFromHeader(token));
+    public HashMap<Long, WriterNameInfo> getJoinedRoleFromJwt(final String token) {
+        return getJoinedRole(getBody(token)).toHashMap();
     }
 
-    public HashMap<Long, WriterNameInfo> getJoinedRoleFromJwt(final String token) {
-        Claims claims = getBody(token);
+    /*
+    압축 형식 도입 이전에 발급된 토큰은 joinedRole 이 JSON 객체이므로 기존 방식으로 변환한다.
+     */
+    private JoinedRoleMap getJoinedRole(final Claims claims) {
         Object joinedRole = claims.get(JOINED_ROLE);
+        if (joinedRole instanceof String encodedRole) {
+            return JoinedRoleCodec.decode(encodedRole);
+        }
         HashMap<Long, WriterNameInfo> roleMap = objectMapper.convertValue(joinedRole, new TypeReference<HashMap<Long, WriterNameInfo>>() {});
-        return roleMap;
+        return JoinedRoleMap.of(roleMap);
     }
 }
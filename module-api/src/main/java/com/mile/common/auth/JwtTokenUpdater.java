@@ -16,12 +16,14 @@ public class JwtTokenUpdater {
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenService tokenService;
     private final WriterNameRetriever writerNameRetriever;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public String setAccessToken(final Long userId, final Long moimId, final Long writerNameId, final MoimRole moimRole) {
 
         Map<Long, WriterNameInfo> moimRoleMap = writerNameRetriever.getJoinedRoleFromUserId(userId);
 
         tokenService.deleteRefreshToken(userId);
+        verifiedTokenCache.evictUser(userId);
 
         moimRoleMap.put(moimId, WriterNameInfo.of(writerNameId, moimRole));
 
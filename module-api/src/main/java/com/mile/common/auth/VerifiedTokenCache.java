@@ -0,0 +1,113 @@
+package com.mile.common.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 사용자 정보를 토큰 만료 시각까지 보관한다.
+ * <p>
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 토큰을 재발급하면 해당 사용자의 항목을 모두 지운다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedToken";
+    private static final long MAXIMUM_SIZE = 10_000L;
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(final MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public AuthContext get(final String token) {
+        VerifiedToken verifiedToken = cache.getIfPresent(digest(token));
+        if (verifiedToken == null || verifiedToken.isExpired()) {
+            return null;
+        }
+        return verifiedToken.authContext();
+    }
+
+    public void put(
+            final String token,
+            final AuthContext authContext,
+            final Instant expiresAt
+    ) {
+        cache.put(digest(token), new VerifiedToken(authContext, expiresAt));
+    }
+
+    public void evictUser(final Long userId) {
+        cache.asMap().values().removeIf(verifiedToken -> Objects.equals(verifiedToken.authContext().userId(), userId));
+    }
+
+    private String digest(final String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(
+            AuthContext authContext,
+            Instant expiresAt
+    ) {
+        private boolean isExpired() {
+            return !Instant.now().isBefore(expiresAt);
+        }
+
+        private long nanosUntilExpired() {
+            return Math.max(0L, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(
+                final String key,
+                final VerifiedToken value,
+                final long currentTime
+        ) {
+            return value.nanosUntilExpired();
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final String key,
+                final VerifiedToken value,
+                final long currentTime,
+                final long currentDuration
+        ) {
+            return value.nanosUntilExpired();
+        }
+
+        @Override
+        public long expireAfterRead(
+                final String key,
+                final VerifiedToken value,
+                final long currentTime,
+                final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mile.common.auth.dto;
+
+import com.mile.common.auth.annotation.UserAuthenticationType;
+
+import java.util.Set;
+
+public record HandlerAuthResponse(
+        String handler,
+        Set<String> methods,
+        Set<String> patterns,
+        UserAuthenticationType authenticationType,
+        String moimIdVariable
+) {
+    public static HandlerAuthResponse of(
+            final String handler,
+            final Set<String> methods,
+            final Set<String> patterns,
+            final UserAuthenticationType authenticationType,
+            final String moimIdVariable
+    ) {
+        return new HandlerAuthResponse(handler, methods, patterns, authenticationType, moimIdVariable);
+    }
+}
@@ -0,0 +1,31 @@
+package com.mile.common.filter;
+
+import com.mile.common.auth.AuthContextHolder;
+import com.mile.common.auth.JwtTokenProvider;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class AuthContextFilter implements Filter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws ServletException, IOException {
+        final HttpServletRequest httpRequest = (HttpServletRequest) request;
+        final String token = httpRequest.getHeader(HttpHeaders.AUTHORIZATION);
+        if (token != null && !HttpMethod.OPTIONS.matches(httpRequest.getMethod())) {
+            AuthContextHolder.setAuthParser(httpRequest, () -> jwtTokenProvider.parseAuthContext(token));
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,104 @@
+package com.mile.common.idempotency;
+
+import com.mile.common.auth.AuthContextHolder;
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.BadRequestException;
+import com.mile.exception.model.TooManyRequestException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.client.RedisException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".KEY";
+    static final String TOKEN_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".TOKEN";
+    static final String TTL_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".TTL";
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        final Idempotent idempotent = method.getMethodAnnotation(Idempotent.class);
+        final String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotent == null || idempotencyKey == null || idempotencyKey.isBlank()) {
+            return true;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(ErrorMessage.VALIDATION_REQUEST_LENGTH_EXCEPTION);
+        }
+        final String key = idempotencyStore.createKey(
+                AuthContextHolder.getAuthContext(request).userId(),
+                request.getMethod(),
+                request.getRequestURI(),
+                idempotencyKey
+        );
+        try {
+            final Optional<String> token = idempotencyStore.tryAcquire(key);
+            if (token.isPresent()) {
+                request.setAttribute(KEY_ATTRIBUTE, key);
+                request.setAttribute(TOKEN_ATTRIBUTE, token.get());
+                request.setAttribute(TTL_ATTRIBUTE, Duration.ofSeconds(idempotent.ttlSeconds()));
+                return true;
+            }
+            final Optional<IdempotentResponse> completed = idempotencyStore.findCompleted(key);
+            if (completed.isEmpty()) {
+                throw new TooManyRequestException(ErrorMessage.TOO_MANY_REQUESTS_EXCEPTION);
+            }
+            replay(response, completed.get());
+            return false;
+        } catch (RedisException e) {
+            log.error("멱등 키 조회 중 에러 발생 -> {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /*
+    응답이 저장되지 않은 요청(예외, 2xx 가 아닌 응답, 크기 초과)은 키를 해제해 같은 키로 다시 시도할 수 있게 한다.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+        final Object key = request.getAttribute(KEY_ATTRIBUTE);
+        final Object token = request.getAttribute(TOKEN_ATTRIBUTE);
+        if (key != null && token != null) {
+            request.removeAttribute(TOKEN_ATTRIBUTE);
+            idempotencyStore.release(key.toString(), token.toString());
+        }
+        HandlerInterceptor.super.afterCompletion(request, response, handler, ex);
+    }
+
+    private void replay(
+            final HttpServletResponse response,
+            final IdempotentResponse idempotentResponse
+    ) throws Exception {
+        response.setStatus(idempotentResponse.status());
+        if (idempotentResponse.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, idempotentResponse.location());
+        }
+        response.setHeader(REPLAYED_HEADER, Boolean.TRUE.toString());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (idempotentResponse.body() != null) {
+            response.getWriter().write(idempotentResponse.body());
+        }
+    }
+}
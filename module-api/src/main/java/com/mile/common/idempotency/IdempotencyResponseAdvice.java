@@ -0,0 +1,69 @@
+package com.mile.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * IdempotencyInterceptor 가 키를 선점한 요청의 2xx 응답을 본문이 쓰이기 직전에 저장한다.
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        final HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        final Object key = httpRequest.getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE);
+        final Object token = httpRequest.getAttribute(IdempotencyInterceptor.TOKEN_ATTRIBUTE);
+        final int status = servletResponse.getServletResponse().getStatus();
+        if (key == null || token == null || !HttpStatusCode.valueOf(status).is2xxSuccessful()) {
+            return body;
+        }
+        try {
+            final URI location = response.getHeaders().getLocation();
+            final IdempotentResponse idempotentResponse = IdempotentResponse.of(
+                    status,
+                    location == null ? null : location.toString(),
+                    objectMapper.writeValueAsString(body)
+            );
+            final Duration ttl = (Duration) httpRequest.getAttribute(IdempotencyInterceptor.TTL_ATTRIBUTE);
+            if (idempotencyStore.complete(key.toString(), token.toString(), idempotentResponse, ttl)) {
+                httpRequest.removeAttribute(IdempotencyInterceptor.TOKEN_ATTRIBUTE);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("멱등 응답 변환 중 에러 발생 -> {}", e.getMessage());
+        }
+        return body;
+    }
+}
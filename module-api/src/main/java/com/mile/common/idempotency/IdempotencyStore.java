@@ -0,0 +1,125 @@
+package com.mile.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 별 처리 상태를 Redis 에 하나의 키로 저장한다.
+ * <p>
+ * 처리 중에는 요청 별 토큰이 담긴 PENDING 값이 PENDING_TTL 동안 유지되고, 처리가 끝나면 응답으로 덮어써 엔드포인트 별 TTL 동안 보관한다.
+ * 응답 본문이 MAX_BODY_SIZE 를 넘으면 저장하지 않고 키를 해제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "MILE_IDEMPOTENCY:";
+    private static final String PENDING_PREFIX = "PENDING:";
+    private static final Duration PENDING_TTL = Duration.ofSeconds(30);
+    private static final int MAX_BODY_SIZE = 16 * 1024;
+    private static final String COMPLETE_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    public String createKey(
+            final Long userId,
+            final String method,
+            final String uri,
+            final String idempotencyKey
+    ) {
+        return KEY_PREFIX + userId + ":" + method + ":" + uri + ":" + idempotencyKey;
+    }
+
+    /*
+    키를 선점하면 PENDING 토큰을, 이미 처리 중이거나 완료된 키면 빈 값을 반환한다.
+     */
+    public Optional<String> tryAcquire(final String key) {
+        final String token = PENDING_PREFIX + UUID.randomUUID();
+        if (getBucket(key).setIfAbsent(token, PENDING_TTL)) {
+            return Optional.of(token);
+        }
+        return Optional.empty();
+    }
+
+    /*
+    완료된 응답만 반환하며, 다른 요청이 처리 중이거나 키가 만료되었다면 빈 값을 반환한다.
+     */
+    public Optional<IdempotentResponse> findCompleted(final String key) {
+        final String value = getBucket(key).get();
+        if (value == null || value.startsWith(PENDING_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, IdempotentResponse.class));
+        } catch (JsonProcessingException e) {
+            log.error("저장된 멱등 응답 변환 중 에러 발생 -> {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /*
+    토큰 비교와 응답 저장을 하나의 스크립트로 실행해, 비교 직후 PENDING 이 만료되어 다른 요청이 키를 선점해도 덮어쓰지 않는다.
+     */
+    public boolean complete(
+            final String key,
+            final String token,
+            final IdempotentResponse response,
+            final Duration ttl
+    ) {
+        if (response.body() != null && response.body().length() > MAX_BODY_SIZE) {
+            return false;
+        }
+        try {
+            final Long completed = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    key,
+                    RScript.Mode.READ_WRITE,
+                    COMPLETE_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.<Object>of(key),
+                    token,
+                    objectMapper.writeValueAsString(response),
+                    String.valueOf(ttl.toMillis())
+            );
+            return completed != null && completed == 1L;
+        } catch (JsonProcessingException | RedisException e) {
+            log.error("멱등 응답 저장 중 에러 발생 -> {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public void release(
+            final String key,
+            final String token
+    ) {
+        try {
+            getBucket(key).compareAndSet(token, null);
+        } catch (RedisException e) {
+            log.error("멱등 키 해제 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    private RBucket<String> getBucket(final String key) {
+        return redissonClient.getBucket(key, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,17 @@
+package com.mile.common.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청의 첫 응답을 저장해, 같은 키로 재시도하면 핸들러를 다시 실행하지 않고 저장된 응답을 돌려준다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+@Documented
+public @interface Idempotent {
+    long ttlSeconds() default 600L;
+}
@@ -0,0 +1,15 @@
+package com.mile.common.idempotency;
+
+public record IdempotentResponse(
+        int status,
+        String location,
+        String body
+) {
+    public static IdempotentResponse of(
+            final int status,
+            final String location,
+            final String body
+    ) {
+        return new IdempotentResponse(status, location, body);
+    }
+}
@@ -6,59 +6,45 @@ import com.mile.exception.model.TooManyRequestException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RMap;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
 
 @Component
 @RequiredArgsConstructor
 public class DuplicatedInterceptor implements HandlerInterceptor {
 
-    private static final String REDIS_KEY = "MILE_REDIS";
-    private static final String RMAP_VALUE = "MILE";
-    private final RedissonClient redissonClient;
+    private static final String USER_ID_ATTRIBUTE = DuplicatedInterceptor.class.getName() + ".USER_ID";
+    private static final String TOKEN_ATTRIBUTE = DuplicatedInterceptor.class.getName() + ".TOKEN";
+    private final DuplicatedRequestGuard duplicatedRequestGuard;
     private final ContextHolderUtil contextHolderUtil;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (lock()) return true;
-        throw new TooManyRequestException(ErrorMessage.TOO_MANY_REQUESTS_EXCEPTION);
-    }
-
-    @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-        unlock();
-        HandlerInterceptor.super.postHandle(request, response, handler, modelAndView);
-    }
-
-    @Override
-    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
-        unlock();
-        HandlerInterceptor.super.afterCompletion(request, response, handler, ex);
-    }
-
-    private String getRmapKey() {
-        return contextHolderUtil.getUserIdFromContextHolder();
-    }
-
-    private boolean lock() {
-        final String rmapKey = getRmapKey();
-        if (rmapKey == null) {
+        final String userId = contextHolderUtil.getUserIdFromContextHolder();
+        if (userId == null) {
             return true;
         }
-        RMap<String, String> redissonClientMap = redissonClient.getMap(REDIS_KEY);
-        return redissonClientMap.putIfAbsent(rmapKey, RMAP_VALUE) == null;
+        final String token = duplicatedRequestGuard.acquire(userId);
+        if (token == null) {
+            throw new TooManyRequestException(ErrorMessage.TOO_MANY_REQUESTS_EXCEPTION);
+        }
+        request.setAttribute(USER_ID_ATTRIBUTE, userId);
+        request.setAttribute(TOKEN_ATTRIBUTE, token);
+        return true;
     }
 
-    private void unlock() {
-        final String rmapKey = getRmapKey();
-        if (rmapKey == null) {
-            return;
+    /*
+    afterCompletion 은 preHandle 이 통과한 요청마다 한 번만 호출되므로 여기서만 해제한다.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+        final Object userId = request.getAttribute(USER_ID_ATTRIBUTE);
+        final Object token = request.getAttribute(TOKEN_ATTRIBUTE);
+        if (userId != null && token != null) {
+            request.removeAttribute(USER_ID_ATTRIBUTE);
+            request.removeAttribute(TOKEN_ATTRIBUTE);
+            duplicatedRequestGuard.release(userId.toString(), token.toString());
         }
-        RMap<String, String> redissonClientMap = redissonClient.getMap(REDIS_KEY);
-        redissonClientMap.remove(rmapKey);
+        HandlerInterceptor.super.afterCompletion(request, response, handler, ex);
     }
 }
-
@@ -0,0 +1,86 @@
+package com.mile.common.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 사용자의 쓰기 요청이 동시에 처리되지 않도록 막는다.
+ * <p>
+ * 같은 노드의 중복 요청은 메모리에서 바로 거절하고, 다른 노드와의 중복은 사용자 별 만료 키(SET NX PX)로 막는다.
+ * 키에는 만료 시간이 있으므로 노드가 비정상 종료되어도 사용자가 계속 잠기지 않는다.
+ */
+@Slf4j
+@Component
+public class DuplicatedRequestGuard {
+
+    private static final String KEY_PREFIX = "MILE_DUPLICATED:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+    private static final String METRIC_PREFIX = "request.duplicated";
+
+    private final RedissonClient redissonClient;
+    private final Set<String> localUserIds = ConcurrentHashMap.newKeySet();
+    private final Counter localRejection;
+    private final Counter remoteRejection;
+    private final Timer redisLatency;
+
+    public DuplicatedRequestGuard(
+            final RedissonClient redissonClient,
+            final MeterRegistry meterRegistry
+    ) {
+        this.redissonClient = redissonClient;
+        this.localRejection = Counter.builder(METRIC_PREFIX + ".rejected").tag("source", "local").register(meterRegistry);
+        this.remoteRejection = Counter.builder(METRIC_PREFIX + ".rejected").tag("source", "redis").register(meterRegistry);
+        this.redisLatency = Timer.builder(METRIC_PREFIX + ".redis.latency").register(meterRegistry);
+    }
+
+    /*
+    획득에 성공하면 해제 시 사용할 토큰을, 중복 요청이면 null 을 반환한다.
+     */
+    public String acquire(final String userId) {
+        if (!localUserIds.add(userId)) {
+            localRejection.increment();
+            return null;
+        }
+        final String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisLatency.record(() -> getBucket(userId).setIfAbsent(token, LOCK_TTL));
+            if (!Boolean.TRUE.equals(acquired)) {
+                localUserIds.remove(userId);
+                remoteRejection.increment();
+                return null;
+            }
+        } catch (RedisException e) {
+            log.error("중복 요청 키 획득 중 에러 발생 -> {}", e.getMessage());
+        }
+        return token;
+    }
+
+    public void release(
+            final String userId,
+            final String token
+    ) {
+        try {
+            redisLatency.record(() -> getBucket(userId).compareAndSet(token, null));
+        } catch (RedisException e) {
+            log.error("중복 요청 키 해제 중 에러 발생 -> {}", e.getMessage());
+        } finally {
+            localUserIds.remove(userId);
+        }
+    }
+
+    private RBucket<String> getBucket(final String userId) {
+        return redissonClient.getBucket(KEY_PREFIX + userId, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,40 @@
+package com.mile.common.interceptor;
+
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.ForbiddenException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/*
+/api/internal 아래의 내부 API 는 설정된 키를 헤더로 보낸 요청만 통과시킨다. 키가 설정되지 않았다면 모두 거절한다.
+ */
+@Component
+public class InternalApiInterceptor implements HandlerInterceptor {
+
+    public static final String INTERNAL_KEY_HEADER = "X-Internal-Key";
+
+    @Value("${internal.api-key:}")
+    private String internalApiKey;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        final String requestKey = request.getHeader(INTERNAL_KEY_HEADER);
+        if (internalApiKey.isBlank() || requestKey == null || !MessageDigest.isEqual(
+                internalApiKey.getBytes(StandardCharsets.UTF_8),
+                requestKey.getBytes(StandardCharsets.UTF_8)
+        )) {
+            throw new ForbiddenException(ErrorMessage.INTERNAL_API_FORBIDDEN);
+        }
+        return true;
+    }
+}
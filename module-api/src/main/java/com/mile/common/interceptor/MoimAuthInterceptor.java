@@ -1,24 +1,21 @@
 package com.mile.common.interceptor;
 
-import com.mile.common.auth.JwtTokenProvider;
-import com.mile.common.auth.JwtValidationType;
-import com.mile.common.auth.annotation.UserAuthAnnotation;
+import com.mile.common.auth.AuthContextHolder;
+import com.mile.common.auth.HandlerAuthRegistry;
+import com.mile.common.auth.HandlerAuthRequirement;
+import com.mile.common.auth.JoinedRoleMap;
 import com.mile.common.utils.thread.WriterNameContextUtil;
 import com.mile.common.utils.SecureUrlUtil;
 import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.ForbiddenException;
-import com.mile.exception.model.UnauthorizedException;
 import com.mile.writername.domain.MoimRole;
-import com.mile.writername.service.vo.WriterNameInfo;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -28,70 +25,58 @@ import static org.springframework.web.servlet.HandlerMapping.URI_TEMPLATE_VARIAB
 @RequiredArgsConstructor
 public class MoimAuthInterceptor implements HandlerInterceptor {
 
-    private static final String MOIM_ID = "moimId";
-    private final JwtTokenProvider jwtTokenProvider;
     private final SecureUrlUtil secureUrlUtil;
+    private final HandlerAuthRegistry handlerAuthRegistry;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (handler instanceof ResourceHttpRequestHandler || Objects.equals(request.getMethod(), "OPTIONS")) {
+        if (!(handler instanceof HandlerMethod method) || Objects.equals(request.getMethod(), "OPTIONS")) {
             return true;
         }
-        HandlerMethod method = (HandlerMethod) handler;
+        final HandlerAuthRequirement requirement = handlerAuthRegistry.getRequirement(method);
 
-        UserAuthAnnotation annotation = method.getMethodAnnotation(UserAuthAnnotation.class);
-
-        if (annotation != null) {
-            final String userToken = getUserTokenFromHeader(request);
-            if(jwtTokenProvider.validateToken(userToken) != JwtValidationType.VALID_JWT) {
-                throw new UnauthorizedException(ErrorMessage.TOKEN_VALIDATION_ERROR);
-            }
-            final HashMap<Long, WriterNameInfo> roleFromUser = jwtTokenProvider.getJoinedRoleFromHeader(userToken);
-            final Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE);
-
-            return authenticateUserFromMap(annotation, roleFromUser, pathVariables);
+        if (requirement.isRequired()) {
+            final JoinedRoleMap roleFromUser = AuthContextHolder.getAuthContext(request).joinedRole();
+            return authenticateUserFromMap(requirement, roleFromUser, request);
         }
         return true;
     }
 
-    private String getUserTokenFromHeader(final HttpServletRequest request) {
-        final String userToken = request.getHeader("Authorization");
-
-        if (userToken == null) {
-            throw new UnauthorizedException(ErrorMessage.UN_LOGIN_EXCEPTION);
-        }
-
-        return userToken;
-    }
-
-    private boolean authenticateUserFromMap(final UserAuthAnnotation annotation,
-                                            final HashMap<Long, WriterNameInfo> userRoles,
-                                            final Map<String, String> pathVariables) {
-        switch (annotation.value()) {
+    private boolean authenticateUserFromMap(final HandlerAuthRequirement requirement,
+                                            final JoinedRoleMap userRoles,
+                                            final HttpServletRequest request) {
+        switch (requirement.authenticationType()) {
             case OWNER -> {
-                final Long requestMoimId = secureUrlUtil.decodeUrl(pathVariables.get(MOIM_ID));
-                if (!userRoles.containsKey(requestMoimId) || !userRoles.get(requestMoimId).moimRole().equals(MoimRole.OWNER)) {
+                final Long requestMoimId = getRequestMoimId(requirement, request);
+                if (!userRoles.containsMoim(requestMoimId) || userRoles.getRole(requestMoimId) != MoimRole.OWNER) {
                     throw new ForbiddenException(ErrorMessage.MOIM_OWNER_AUTHENTICATION_ERROR);
                 }
-                WriterNameContextUtil.setWriterNameIdContext(userRoles.get(requestMoimId).writerNameId());
+                WriterNameContextUtil.setWriterNameIdContext(userRoles.getWriterNameId(requestMoimId));
                 return true;
             }
             case WRITER_NAME -> {
-                final Long requestMoimId = secureUrlUtil.decodeUrl(pathVariables.get(MOIM_ID));
-                if (!userRoles.containsKey(requestMoimId)) {
+                final Long requestMoimId = getRequestMoimId(requirement, request);
+                if (!userRoles.containsMoim(requestMoimId)) {
                     throw new ForbiddenException(ErrorMessage.USER_MOIM_AUTHENTICATE_ERROR);
                 }
-                WriterNameContextUtil.setWriterNameIdContext(userRoles.get(requestMoimId).writerNameId());
+                WriterNameContextUtil.setWriterNameIdContext(userRoles.getWriterNameId(requestMoimId));
                 return true;
             }
             case USER -> {
-                WriterNameContextUtil.setMoimWriterNameMapContext(userRoles);
+                WriterNameContextUtil.setMoimWriterNameMapContext(userRoles.toHashMap());
                 return true;
             }
         }
         return true;
     }
 
+    @SuppressWarnings("unchecked")
+    private Long getRequestMoimId(final HandlerAuthRequirement requirement,
+                                  final HttpServletRequest request) {
+        final Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return secureUrlUtil.decodeUrl(pathVariables.get(requirement.moimIdVariable()));
+    }
+
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
         WriterNameContextUtil.clear();
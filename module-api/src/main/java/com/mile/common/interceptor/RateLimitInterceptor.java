@@ -0,0 +1,71 @@
+package com.mile.common.interceptor;
+
+import com.mile.common.auth.AuthContextHolder;
+import com.mile.common.ratelimit.RateLimit;
+import com.mile.common.ratelimit.RateLimiter;
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.TooManyRequestException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String USER_PREFIX = "user:";
+    private static final String IP_PREFIX = "ip:";
+    private final RateLimiter rateLimiter;
+
+    /*
+    앞단에서 X-Forwarded-For 에 주소를 덧붙이는 프록시 수. 0 이면 헤더를 무시하고 연결된 주소를 사용한다.
+     */
+    @Value("${rate-limit.trusted-proxy-count:1}")
+    private int trustedProxyCount;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        final RateLimit rateLimit = method.getMethodAnnotation(RateLimit.class);
+        if (rateLimit == null) {
+            return true;
+        }
+        final String endpoint = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        if (!rateLimiter.tryAcquire(endpoint, getClient(request), rateLimit)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((long) Math.ceil(1 / rateLimit.refillPerSecond())));
+            throw new TooManyRequestException(ErrorMessage.RATE_LIMIT_EXCEEDED_EXCEPTION);
+        }
+        return true;
+    }
+
+    private String getClient(final HttpServletRequest request) {
+        return AuthContextHolder.findAuthContext(request)
+                .map(authContext -> USER_PREFIX + authContext.userId())
+                .orElseGet(() -> IP_PREFIX + getClientIp(request));
+    }
+
+    /*
+    클라이언트가 보낸 X-Forwarded-For 값 뒤에 프록시마다 주소가 덧붙으므로, 오른쪽에서 trustedProxyCount 번째 값만 신뢰한다.
+    헤더의 홉 수가 프록시 수보다 적다면 프록시를 거치지 않은 요청이므로 연결된 주소를 사용한다.
+     */
+    private String getClientIp(final HttpServletRequest request) {
+        final String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (trustedProxyCount <= 0 || forwardedFor == null || forwardedFor.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        final String[] hops = forwardedFor.split(",");
+        if (hops.length < trustedProxyCount) {
+            return request.getRemoteAddr();
+        }
+        return hops[hops.length - trustedProxyCount].trim();
+    }
+}
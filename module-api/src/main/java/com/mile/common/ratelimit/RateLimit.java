@@ -0,0 +1,21 @@
+package com.mile.common.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 별 토큰 버킷 한도를 선언한다.
+ * <p>
+ * 로그인한 사용자는 사용자 ID, 그렇지 않은 요청은 클라이언트 IP 마다 capacity 개의 토큰을 가지며, 초당 refillPerSecond 개씩 다시 채워진다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+@Documented
+public @interface RateLimit {
+    int capacity();
+
+    double refillPerSecond();
+}
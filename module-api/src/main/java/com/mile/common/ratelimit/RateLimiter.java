@@ -0,0 +1,102 @@
+package com.mile.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 핸들러와 클라이언트 조합 별 토큰 버킷으로 요청량을 제한한다.
+ * <p>
+ * 먼저 노드 로컬 버킷에서 토큰을 꺼내고, 로컬에서 통과한 요청만 Redis 의 Lua 스크립트로 클러스터 전체 버킷을 차감한다.
+ * 로컬 버킷은 전체 버킷과 같은 한도를 가지므로 로컬에서 거절된 요청은 전체 기준으로도 초과 요청이다.
+ * Redis 에 장애가 있으면 로컬 버킷만으로 판단한다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "MILE_RATE_LIMIT:";
+    private static final String THROTTLED_METRIC = "request.throttled";
+    private static final long LOCAL_BUCKET_SIZE = 100_000L;
+    private static final Duration LOCAL_BUCKET_IDLE = Duration.ofMinutes(10);
+    /*
+    버킷을 가득 채우는 데 필요한 시간이 지나면 키가 만료되므로, 오래 요청하지 않은 클라이언트의 버킷은 남지 않는다.
+     */
+    private static final String TOKEN_BUCKET_SCRIPT = """
+            local capacity = tonumber(ARGV[1])
+            local refill = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill / 1000)
+            local allowed = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill * 1000) + 1000)
+            return allowed
+            """;
+
+    private final RScript script;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(LOCAL_BUCKET_SIZE)
+            .expireAfterAccess(LOCAL_BUCKET_IDLE)
+            .build();
+
+    public RateLimiter(
+            final RedissonClient redissonClient,
+            final MeterRegistry meterRegistry
+    ) {
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean tryAcquire(
+            final String endpoint,
+            final String client,
+            final RateLimit rateLimit
+    ) {
+        final String key = endpoint + ":" + client;
+        final TokenBucket localBucket = localBuckets.get(key, k -> new TokenBucket(rateLimit.capacity(), rateLimit.refillPerSecond()));
+        if (!localBucket.tryConsume()) {
+            meterRegistry.counter(THROTTLED_METRIC, "endpoint", endpoint, "source", "local").increment();
+            return false;
+        }
+        try {
+            Long allowed = script.eval(
+                    KEY_PREFIX + key,
+                    RScript.Mode.READ_WRITE,
+                    TOKEN_BUCKET_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.<Object>of(KEY_PREFIX + key),
+                    String.valueOf(rateLimit.capacity()),
+                    String.valueOf(rateLimit.refillPerSecond())
+            );
+            if (allowed != null && allowed == 0L) {
+                meterRegistry.counter(THROTTLED_METRIC, "endpoint", endpoint, "source", "redis").increment();
+                return false;
+            }
+        } catch (RedisException e) {
+            log.error("요청량 제한 확인 중 에러 발생 -> {}", e.getMessage());
+        }
+        return true;
+    }
+}
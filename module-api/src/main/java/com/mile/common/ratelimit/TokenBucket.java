@@ -0,0 +1,33 @@
+package com.mile.common.ratelimit;
+
+/*
+노드 안에서만 사용하는 토큰 버킷으로, Redis 에 묻지 않고 명백한 초과 요청을 거절할 때 사용한다.
+ */
+class TokenBucket {
+
+    private final int capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(
+            final int capacity,
+            final double refillPerSecond
+    ) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    synchronized boolean tryConsume() {
+        final long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
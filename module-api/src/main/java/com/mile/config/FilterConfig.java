@@ -1,6 +1,8 @@
 package com.mile.config;
 
 
+import com.mile.common.auth.JwtTokenProvider;
+import com.mile.common.filter.AuthContextFilter;
 import com.mile.common.filter.MDCLoggingFilter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -16,4 +18,12 @@ public class FilterConfig {
         filterRegistrationBean.setOrder(1);
         return filterRegistrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean<AuthContextFilter> authContextFilter(final JwtTokenProvider jwtTokenProvider) {
+        FilterRegistrationBean<AuthContextFilter> filterRegistrationBean = new FilterRegistrationBean<>(
+                new AuthContextFilter(jwtTokenProvider));
+        filterRegistrationBean.setOrder(2);
+        return filterRegistrationBean;
+    }
 }
@@ -1,8 +1,11 @@
 package com.mile.config;
 
 
+import com.mile.common.idempotency.IdempotencyInterceptor;
 import com.mile.common.interceptor.DuplicatedInterceptor;
+import com.mile.common.interceptor.InternalApiInterceptor;
 import com.mile.common.interceptor.MoimAuthInterceptor;
+import com.mile.common.interceptor.RateLimitInterceptor;
 import com.mile.common.resolver.comment.CommentVariableResolver;
 import com.mile.common.resolver.moim.MoimVariableResolver;
 import com.mile.common.resolver.post.PostVariableResolver;
@@ -27,6 +30,9 @@ public class WebConfig implements WebMvcConfigurer {
     private final PostVariableResolver postVariableResolver;
     private final CommentVariableResolver commentVariableResolver;
     private final ReplyVariableResolver replyVariableResolver;
+    private final InternalApiInterceptor internalApiInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final IdempotencyInterceptor idempotencyInterceptor;
     private final DuplicatedInterceptor duplicatedInterceptor;
     private final MoimAuthInterceptor moimAuthInterceptor;
     private final UserIdHeaderResolver userIdHeaderResolver;
@@ -66,6 +72,10 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(internalApiInterceptor)
+                .addPathPatterns("/api/internal/**");
+        registry.addInterceptor(rateLimitInterceptor);
+        registry.addInterceptor(idempotencyInterceptor);
         registry.addInterceptor(duplicatedInterceptor)
                 .addPathPatterns("/api/post/temporary", "/api/post", "/api/post/{postId}/comment", "/api/comment/{commentId}", "/api/moim/{moimId}/topic");
         registry.addInterceptor(moimAuthInterceptor);
@@ -3,9 +3,14 @@ package com.mile.controller.comment;
 
 import com.mile.comment.service.CommentService;
 import com.mile.commentreply.service.dto.request.ReplyCreateRequest;
+import com.mile.commentreply.service.dto.response.ReplyPageResponse;
+import com.mile.common.auth.annotation.UserAuthAnnotation;
+import com.mile.common.auth.annotation.UserAuthenticationType;
+import com.mile.common.idempotency.Idempotent;
 import com.mile.common.resolver.comment.CommentIdPathVariable;
 import com.mile.common.resolver.reply.ReplyIdPathVariable;
 import com.mile.common.resolver.user.UserId;
+import com.mile.common.utils.thread.WriterNameContextUtil;
 import com.mile.dto.SuccessResponse;
 import com.mile.exception.message.SuccessMessage;
 import jakarta.validation.Valid;
@@ -13,10 +18,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -36,6 +43,7 @@ public class CommentController implements CommentControllerSwagger {
         return ResponseEntity.status(HttpStatus.OK).body(SuccessResponse.of(SuccessMessage.COMMENT_DELETE_SUCCESS));
     }
 
+    @Idempotent(ttlSeconds = 600)
     @PostMapping("/{commentId}")
     public ResponseEntity<SuccessResponse> createCommentReply(
             @CommentIdPathVariable final Long commentId,
@@ -51,6 +59,19 @@ public class CommentController implements CommentControllerSwagger {
                 )).body(SuccessResponse.of(SuccessMessage.REPLY_CREATE_SUCCESS));
     }
 
+    @Override
+    @GetMapping("/{commentId}/reply")
+    @UserAuthAnnotation(UserAuthenticationType.USER)
+    public ResponseEntity<SuccessResponse<ReplyPageResponse>> getReplyPage(
+            @CommentIdPathVariable final Long commentId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size,
+            @PathVariable("commentId") final String commentUrl
+    ) {
+        return ResponseEntity.ok(SuccessResponse.of(SuccessMessage.REPLY_SEARCH_SUCCESS,
+                commentService.getReplyPage(commentId, WriterNameContextUtil.getMoimWriterNameMapContext(), cursor, size)));
+    }
+
     @DeleteMapping("/reply/{replyId}")
     public ResponseEntity<SuccessResponse> deleteCommentReply(
             @ReplyIdPathVariable final Long replyId,
@@ -1,6 +1,7 @@
 package com.mile.controller.comment;
 
 import com.mile.commentreply.service.dto.request.ReplyCreateRequest;
+import com.mile.commentreply.service.dto.response.ReplyPageResponse;
 import com.mile.common.resolver.user.UserId;
 import com.mile.dto.ErrorResponse;
 import com.mile.dto.SuccessResponse;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Comment", description = "댓글 관련 API")
 public interface CommentControllerSwagger {
@@ -56,6 +58,27 @@ public interface CommentControllerSwagger {
             @PathVariable("commentId") final String commentUrl
     );
 
+    @Operation(description = "대댓글 페이지 조회 API")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "대댓글 조회가 완료되었습니다."),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서입니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "해당 사용자는 모임에 접근 권한이 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "해당 댓글이 존재하지 않습니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류입니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    ResponseEntity<SuccessResponse<ReplyPageResponse>> getReplyPage(
+            @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long commentId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size,
+            @PathVariable("commentId") final String commentUrl
+    );
+
     @Operation(description = "대댓글 삭제 API")
     @ApiResponses(
             value = {
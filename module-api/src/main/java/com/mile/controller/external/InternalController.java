@@ -1,29 +1,76 @@
 package com.mile.controller.external;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mile.common.CacheService;
+import com.mile.common.auth.HandlerAuthRegistry;
+import com.mile.common.auth.dto.HandlerAuthResponse;
 import com.mile.dto.SuccessResponse;
 import com.mile.exception.message.SuccessMessage;
-import com.mile.moim.service.MoimService;
+import com.mile.post.service.PostBodyMigrator;
+import com.mile.post.service.PostCardBackfiller;
+import com.mile.post.service.PostDataExporter;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class InternalController {
 
     private final CacheService cacheService;
-    private final MoimService moimService;
+    private final PostDataExporter postDataExporter;
+    private final ObjectMapper objectMapper;
+    private final HandlerAuthRegistry handlerAuthRegistry;
+    private final PostCardBackfiller postCardBackfiller;
+    private final PostBodyMigrator postBodyMigrator;
 
     @PostMapping("/api/v1/moim/info/cache")
     public void deleteMoimInfoCache() {
         cacheService.deleteMoimCache();
     }
 
+    /*
+    글 수가 많아도 메모리에 모으지 않도록 SuccessResponse 와 같은 형태의 JSON 을 응답에 바로 쓴다.
+     */
     @GetMapping("/api/internal/post-data")
-    public ResponseEntity getPostAndMoimIdForMetaData() {
-        return ResponseEntity.ok(SuccessResponse.of(SuccessMessage.MOIM_POST_MAP_GET_SUCCESS, moimService.getAllPostMoimMap()));
+    public void getPostAndMoimIdForMetaData(
+            final HttpServletResponse response
+    ) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeNumberField("status", SuccessMessage.MOIM_POST_MAP_GET_SUCCESS.getStatus());
+            generator.writeStringField("message", SuccessMessage.MOIM_POST_MAP_GET_SUCCESS.getMessage());
+            generator.writeFieldName("data");
+            postDataExporter.writePostListMoimMap(generator);
+            generator.writeEndObject();
+        }
+    }
+
+    @GetMapping("/api/internal/handler-auth")
+    public ResponseEntity<SuccessResponse<List<HandlerAuthResponse>>> getHandlerAuthList() {
+        return ResponseEntity.ok(SuccessResponse.of(SuccessMessage.HANDLER_AUTH_LIST_GET_SUCCESS, handlerAuthRegistry.getEntries()));
+    }
+
+    @PostMapping("/api/internal/post-card/backfill")
+    public ResponseEntity<SuccessResponse<Integer>> backfillPostCards() {
+        return ResponseEntity.ok(SuccessResponse.of(SuccessMessage.POST_CARD_BACKFILL_SUCCESS, postCardBackfiller.backfill()));
+    }
+
+    @PostMapping("/api/internal/post-body/migrate")
+    public ResponseEntity<SuccessResponse<Integer>> migratePostBodies() {
+        return ResponseEntity.ok(SuccessResponse.of(SuccessMessage.POST_BODY_MIGRATE_SUCCESS, postBodyMigrator.migrate()));
     }
 }
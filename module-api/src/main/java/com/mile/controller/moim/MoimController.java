@@ -4,6 +4,8 @@ import com.mile.common.auth.JwtTokenUpdater;
 import com.mile.common.auth.annotation.UserAuthAnnotation;
 import com.mile.common.auth.annotation.UserAuthenticationType;
 import com.mile.common.auth.dto.AccessTokenDto;
+import com.mile.common.idempotency.Idempotent;
+import com.mile.common.ratelimit.RateLimit;
 import com.mile.common.resolver.moim.MoimIdPathVariable;
 import com.mile.common.resolver.user.UserId;
 import com.mile.common.utils.thread.WriterNameContextUtil;
@@ -152,6 +154,7 @@ public class MoimController implements MoimControllerSwagger {
 
     }
 
+    @RateLimit(capacity = 30, refillPerSecond = 5)
     @GetMapping("/{moimId}/info")
     @Override
     public SuccessResponse<MoimInfoResponse> getMoimInfo(
@@ -194,6 +197,7 @@ public class MoimController implements MoimControllerSwagger {
     }
 
     @Override
+    @Idempotent(ttlSeconds = 3600)
     @PostMapping("/{moimId}/topic")
     @UserAuthAnnotation(UserAuthenticationType.OWNER)
     public ResponseEntity<SuccessResponse> createTopicOfMoim(
@@ -331,6 +335,7 @@ public class MoimController implements MoimControllerSwagger {
     }
 
     @Override
+    @RateLimit(capacity = 30, refillPerSecond = 5)
     @GetMapping("/{moimId}/information")
     public ResponseEntity<SuccessResponse> getMoimTotalInformation(
             @MoimIdPathVariable @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long moimId,
@@ -1,7 +1,10 @@
 package com.mile.controller.post;
 
+import com.mile.comment.service.dto.CommentPageResponse;
 import com.mile.common.auth.annotation.UserAuthAnnotation;
 import com.mile.common.auth.annotation.UserAuthenticationType;
+import com.mile.common.idempotency.Idempotent;
+import com.mile.common.ratelimit.RateLimit;
 import com.mile.common.resolver.user.UserId;
 import com.mile.common.utils.thread.WriterNameContextUtil;
 import com.mile.curious.service.dto.CuriousInfoResponse;
@@ -31,6 +34,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -40,6 +44,7 @@ public class PostController implements PostControllerSwagger {
 
     private final PostService postService;
 
+    @Idempotent(ttlSeconds = 600)
     @PostMapping("/{postId}/comment")
     @Override
     @UserAuthAnnotation(UserAuthenticationType.USER)
@@ -67,6 +72,7 @@ public class PostController implements PostControllerSwagger {
         return SuccessResponse.of(SuccessMessage.CURIOUS_CREATE_SUCCESS, postService.createCuriousOnPost(postId, WriterNameContextUtil.getMoimWriterNameMapContext()));
     }
 
+    @RateLimit(capacity = 30, refillPerSecond = 5)
     @GetMapping("/{postId}/comment")
     @Override
     @UserAuthAnnotation(UserAuthenticationType.USER)
@@ -77,6 +83,19 @@ public class PostController implements PostControllerSwagger {
         return ResponseEntity.ok(SuccessResponse.of(SuccessMessage.COMMENT_SEARCH_SUCCESS, postService.getComments(postId, WriterNameContextUtil.getMoimWriterNameMapContext())));
     }
 
+    @RateLimit(capacity = 30, refillPerSecond = 5)
+    @GetMapping("/{postId}/comment/page")
+    @Override
+    @UserAuthAnnotation(UserAuthenticationType.USER)
+    public ResponseEntity<SuccessResponse<CommentPageResponse>> getCommentPage(
+            @PostIdPathVariable final Long postId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size,
+            @PathVariable("postId") final String postUrl
+    ) {
+        return ResponseEntity.ok(SuccessResponse.of(SuccessMessage.COMMENT_SEARCH_SUCCESS, postService.getCommentPage(postId, WriterNameContextUtil.getMoimWriterNameMapContext(), cursor, size)));
+    }
+
 
     @GetMapping("/{postId}/info/curious")
     @Override
@@ -152,6 +171,7 @@ public class PostController implements PostControllerSwagger {
     }
 
     @Override
+    @RateLimit(capacity = 30, refillPerSecond = 5)
     @GetMapping("/{postId}")
     public ResponseEntity<SuccessResponse<PostGetResponse>> getPost(
             @PostIdPathVariable final Long postId,
@@ -162,6 +182,7 @@ public class PostController implements PostControllerSwagger {
 
 
     @Override
+    @Idempotent(ttlSeconds = 3600)
     @PostMapping
     public SuccessResponse<WriterNameResponse> createPost(
             @Valid @RequestBody final PostCreateRequest postCreateRequest,
@@ -174,6 +195,7 @@ public class PostController implements PostControllerSwagger {
     }
 
     @Override
+    @Idempotent(ttlSeconds = 600)
     @PostMapping("/temporary")
     public SuccessResponse createTemporaryPost(
             @RequestBody @Valid final TemporaryPostCreateRequest temporaryPostCreateRequest,
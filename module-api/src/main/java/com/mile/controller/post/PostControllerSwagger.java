@@ -1,6 +1,7 @@
 package com.mile.controller.post;
 
 import com.mile.common.resolver.user.UserId;
+import com.mile.comment.service.dto.CommentPageResponse;
 import com.mile.curious.service.dto.CuriousInfoResponse;
 import com.mile.dto.ErrorResponse;
 import com.mile.dto.SuccessResponse;
@@ -26,6 +27,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
 
 @Tag(name = "Post", description = "게시글 관련 API - 댓글 등록/ 조회 및 궁금해요 등록/삭제 포함")
@@ -84,6 +86,25 @@ public interface PostControllerSwagger {
             @PathVariable("postId") final String postUrl
     );
 
+    @Operation(summary = "댓글 페이지 조회")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "댓글 조회가 완료되었습니다."),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서입니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "해당 사용자는 모임에 접근 권한이 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류입니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    ResponseEntity<SuccessResponse<CommentPageResponse>> getCommentPage(
+            @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long postId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size,
+            @PathVariable("postId") final String postUrl
+    );
+
 
     @Operation(summary = "궁금해요 개수 및 궁금해요 여부 조회")
     @ApiResponses(
@@ -5,6 +5,7 @@ import com.mile.client.SocialType;
 import com.mile.client.dto.UserLoginRequest;
 import com.mile.common.auth.JwtTokenProvider;
 import com.mile.common.auth.JwtValidationType;
+import com.mile.common.auth.VerifiedTokenCache;
 import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.UnauthorizedException;
 import com.mile.jwt.service.TokenService;
@@ -31,6 +32,7 @@ public class AuthFacade {
     private final JwtTokenProvider jwtTokenProvider;
     private final LoginStrategyManager loginStrategyManager;
     private final TokenService tokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public AccessTokenGetSuccess refreshToken(
             final String refreshToken
@@ -58,12 +60,14 @@ public class AuthFacade {
         revokeUser(authorizationCode, userLoginRequest);
         userService.deleteUser(userId);
         tokenService.deleteRefreshToken(userId);
+        verifiedTokenCache.evictUser(userId);
     }
 
     public void deleteRefreshToken(
             final Long id
     ) {
         tokenService.deleteRefreshToken(id);
+        verifiedTokenCache.evictUser(id);
     }
 
     private LoginSuccessResponse getTokenDto(
@@ -0,0 +1,120 @@
+package com.mile.cocurrency;
+
+import com.mile.comment.domain.Comment;
+import com.mile.comment.repository.CommentRepository;
+import com.mile.comment.service.CommentCreator;
+import com.mile.comment.service.CommentService;
+import com.mile.commentreply.domain.CommentReply;
+import com.mile.commentreply.repository.CommentReplyRepository;
+import com.mile.commentreply.service.CommentReplyService;
+import com.mile.commentreply.service.dto.request.ReplyCreateRequest;
+import com.mile.post.domain.Post;
+import com.mile.post.repository.PostRepository;
+import com.mile.post.service.PostCommentCountReconciler;
+import com.mile.post.service.dto.request.CommentCreateRequest;
+import com.mile.support.ConcurrentTaskRunner;
+import com.mile.support.TestFixtureFactory;
+import com.mile.user.domain.User;
+import com.mile.writername.domain.WriterName;
+import com.mile.writername.repository.WriterNameRepository;
+import com.mile.writername.service.WriterNameActivityCountReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class CommentCountTest {
+
+    private static final int NUMBER_OF_COMMENTS = 60;
+
+    @Autowired
+    private CommentCreator commentCreator;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentReplyService commentReplyService;
+    @Autowired
+    private PostCommentCountReconciler postCommentCountReconciler;
+    @Autowired
+    private WriterNameActivityCountReconciler writerNameActivityCountReconciler;
+    @Autowired
+    private TestFixtureFactory testFixtureFactory;
+    @Autowired
+    private WriterNameRepository writerNameRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CommentReplyRepository commentReplyRepository;
+
+    private User user;
+    private Post post;
+    private WriterName writerName;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtureFactory.MoimContext context = testFixtureFactory.createMoim("writer");
+        user = context.user();
+        writerName = context.writerName();
+        post = testFixtureFactory.createPost(context);
+    }
+
+    @Test
+    @DisplayName("댓글과 답글을 동시에 생성/삭제해도 글과 필명의 댓글 수는 실제 댓글과 답글 수의 합과 같다.")
+    public void concurrentCommentCountTest() throws Exception {
+        // when
+        List<Throwable> createFailures = ConcurrentTaskRunner.run(NUMBER_OF_COMMENTS, i -> commentCreator.createComment(post, writerName, new CommentCreateRequest("comment", false)));
+
+        // then
+        assertThat(createFailures).isEmpty();
+        assertThat(getCommentCount()).isEqualTo(NUMBER_OF_COMMENTS);
+
+        // when
+        List<Comment> comments = commentRepository.findByPostId(post.getId());
+        int half = NUMBER_OF_COMMENTS / 2;
+        List<Throwable> toggleFailures = ConcurrentTaskRunner.run(NUMBER_OF_COMMENTS, i -> {
+            if (i < half) {
+                commentService.deleteComment(comments.get(i).getId(), user.getId());
+            } else {
+                commentReplyService.createCommentReply(writerName, comments.get(i), new ReplyCreateRequest("reply", false));
+                commentReplyService.createCommentReply(writerName, comments.get(i), new ReplyCreateRequest("reply", false));
+            }
+        });
+        List<CommentReply> replies = commentReplyRepository.findAllWithWriterNameByPostId(post.getId());
+        List<Throwable> deleteFailures = ConcurrentTaskRunner.run(replies.size() / 2, i -> commentService.deleteReply(user.getId(), replies.get(i).getId()));
+
+        // then
+        assertThat(toggleFailures).isEmpty();
+        assertThat(deleteFailures).isEmpty();
+        assertThat(getCommentCount()).isEqualTo(countActualComments());
+        assertThat(getCommentCount()).isEqualTo(half + half * 2 - half);
+        assertThat(getWriterNameCommentCount()).isEqualTo(countActualComments());
+
+        // when
+        postCommentCountReconciler.reconcile();
+        writerNameActivityCountReconciler.reconcile();
+
+        // then
+        assertThat(getCommentCount()).isEqualTo(countActualComments());
+        assertThat(getWriterNameCommentCount()).isEqualTo(countActualComments());
+    }
+
+    private int getCommentCount() {
+        return postRepository.findById(post.getId()).get().getCommentCount();
+    }
+
+    private int getWriterNameCommentCount() {
+        return writerNameRepository.findById(writerName.getId()).get().getTotalCommentCount();
+    }
+
+    private int countActualComments() {
+        return commentRepository.countByPost(post) + commentReplyRepository.countByPost(post);
+    }
+}
@@ -0,0 +1,126 @@
+package com.mile.cocurrency;
+
+import com.mile.curious.service.CuriousRemover;
+import com.mile.curious.service.CuriousService;
+import com.mile.exception.model.ConflictException;
+import com.mile.post.domain.Post;
+import com.mile.post.repository.PostRepository;
+import com.mile.support.ConcurrentTaskRunner;
+import com.mile.support.TestFixtureFactory;
+import com.mile.writername.domain.WriterName;
+import com.mile.writername.repository.WriterNameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class CuriousCountTest {
+
+    private static final int NUMBER_OF_WRITERS = 200;
+
+    @Autowired
+    private CuriousService curiousService;
+
+    @Autowired
+    private CuriousRemover curiousRemover;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtureFactory testFixtureFactory;
+
+    @Autowired
+    private WriterNameRepository writerNameRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Post post;
+    private WriterName author;
+    private final List<WriterName> readers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        TestFixtureFactory.MoimContext context = testFixtureFactory.createMoim("author");
+        author = context.writerName();
+        post = testFixtureFactory.createPost(context);
+        readers.clear();
+        for (int i = 0; i < NUMBER_OF_WRITERS; i++) {
+            readers.add(testFixtureFactory.createWriterName(context, "reader" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("여러 필명이 동시에 궁금해요를 생성/삭제해도 글과 필명의 궁금해요 수가 정확하게 반영된다.")
+    public void concurrentCuriousCountTest() throws Exception {
+        // when
+        List<Throwable> createFailures = ConcurrentTaskRunner.run(readers.size(), i -> curiousService.createCurious(post, readers.get(i)));
+
+        // then
+        assertThat(createFailures).isEmpty();
+        assertThat(postRepository.findById(post.getId()).get().getCuriousCount()).isEqualTo(NUMBER_OF_WRITERS);
+        assertThat(writerNameRepository.findById(author.getId()).get().getTotalCuriousCount()).isEqualTo(NUMBER_OF_WRITERS);
+
+        // when
+        List<Throwable> deleteFailures = ConcurrentTaskRunner.run(readers.size(), i -> curiousService.deleteCurious(post, readers.get(i)));
+
+        // then
+        assertThat(deleteFailures).isEmpty();
+        assertThat(postRepository.findById(post.getId()).get().getCuriousCount()).isEqualTo(0);
+        assertThat(writerNameRepository.findById(author.getId()).get().getTotalCuriousCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("같은 필명이 동시에 궁금해요를 여러 번 생성하면 한 번만 반영된다.")
+    public void duplicatedCuriousTest() throws Exception {
+        // given
+        int numberOfThread = 20;
+        WriterName reader = readers.get(0);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        List<Throwable> failures = ConcurrentTaskRunner.run(numberOfThread, i -> {
+            curiousService.createCurious(post, reader);
+            successCount.incrementAndGet();
+        });
+
+        // then
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(failures).hasSize(numberOfThread - 1).allMatch(ConflictException.class::isInstance);
+        assertThat(postRepository.findById(post.getId()).get().getCuriousCount()).isEqualTo(1);
+        assertThat(writerNameRepository.findById(author.getId()).get().getTotalCuriousCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필명의 궁금해요를 일괄 삭제하는 동안 다른 필명이 궁금해요를 생성해도 궁금해요 수가 유실되지 않는다.")
+    public void deleteAllByWriterNameWhileCreatingTest() throws Exception {
+        // given
+        int half = NUMBER_OF_WRITERS / 2;
+        List<Throwable> setUpFailures = ConcurrentTaskRunner.run(half, i -> curiousService.createCurious(post, readers.get(i)));
+
+        // when
+        List<Throwable> failures = ConcurrentTaskRunner.run(NUMBER_OF_WRITERS, i -> {
+            if (i < half) {
+                transactionTemplate.executeWithoutResult(status -> curiousRemover.deleteAllByWriterName(readers.get(i)));
+                return;
+            }
+            curiousService.createCurious(post, readers.get(i));
+        });
+
+        // then
+        assertThat(setUpFailures).isEmpty();
+        assertThat(failures).isEmpty();
+        assertThat(postRepository.findById(post.getId()).get().getCuriousCount()).isEqualTo(NUMBER_OF_WRITERS - half);
+        assertThat(writerNameRepository.findById(author.getId()).get().getTotalCuriousCount()).isEqualTo(NUMBER_OF_WRITERS - half);
+    }
+}
@@ -3,11 +3,13 @@ package com.mile.cocurrency;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mile.client.SocialType;
 import com.mile.common.auth.JwtTokenProvider;
+import com.mile.common.idempotency.IdempotencyInterceptor;
 import com.mile.moim.domain.Moim;
 import com.mile.moim.repository.MoimRepository;
 import com.mile.moim.service.dto.request.MoimCreateRequest;
 import com.mile.moim.service.dto.request.TopicCreateRequest;
 import com.mile.moim.service.dto.request.WriterMemberJoinRequest;
+import com.mile.post.repository.PostRepository;
 import com.mile.post.service.dto.request.PostCreateRequest;
 import com.mile.topic.domain.Topic;
 import com.mile.topic.repository.TopicRepository;
@@ -30,6 +32,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -62,10 +65,13 @@ public class DuplicatedInterceptorTest {
     private WriterNameRepository writerNameRepository;
     @Autowired
     private TopicRepository topicRepository;
+    @Autowired
+    private PostRepository postRepository;
 
     private static Long USER_ID;
     private static String MOIM_ID;
     private static String TOPIC_ID;
+    private static Topic TOPIC;
     private static Map<Long, WriterNameInfo> joinedRole = new HashMap<>();
 
     @BeforeEach
@@ -96,6 +102,7 @@ public class DuplicatedInterceptorTest {
         MOIM_ID = secureUrlUtil.encodeUrl(moim.getId());
 
         TOPIC_ID = secureUrlUtil.encodeUrl(topic.getId());
+        TOPIC = topic;
         joinedRole.put(moim.getId(), WriterNameInfo.of(writerName.getId(), MoimRole.OWNER));
     }
 
@@ -157,4 +164,43 @@ public class DuplicatedInterceptorTest {
         assertThat(count200).isEqualTo(1);
         assertThat(count429).isEqualTo(numberOfThread - 1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 다시 요청하면 글을 다시 만들지 않고 첫 응답을 그대로 반환한다.")
+    public void idempotentReplayTest() throws Exception {
+
+        // given
+        String token = "Bearer " + jwtTokenProvider.issueAccessToken(USER_ID, joinedRole);
+        String idempotencyKey = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new PostCreateRequest(
+                MOIM_ID,
+                TOPIC_ID,
+                "string",
+                "string",
+                "string",
+                false
+        ));
+
+        // when
+        List<MvcResult> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(mockMvc.perform(
+                            post("/api/post")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .header("Authorization", token)
+                                    .header(IdempotencyInterceptor.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                    .content(body)
+                    )
+                    .andDo(print())
+                    .andReturn());
+        }
+
+        // then
+        assertThat(results.get(0).getResponse().getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(results.get(1).getResponse().getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(results.get(1).getResponse().getHeader(IdempotencyInterceptor.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(results.get(1).getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .isEqualTo(results.get(0).getResponse().getContentAsString(StandardCharsets.UTF_8));
+        assertThat(postRepository.findByTopic(TOPIC).size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,86 @@
+package com.mile.cocurrency;
+
+import com.mile.moim.service.popular.MoimPopularRanking;
+import com.mile.support.ConcurrentTaskRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class MoimPopularRankingTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long WRITER_NAME_ID = 1L;
+
+    @Autowired
+    private MoimPopularRanking moimPopularRanking;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private Long moimId;
+
+    @BeforeEach
+    void setUp() {
+        moimId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("같은 글의 궁금해요가 동시에 증감해도 점수가 유실되지 않는다.")
+    public void concurrentIncreaseAndDecreaseTest() throws InterruptedException {
+        // given
+        int numberOfIncrease = 150;
+        int numberOfDecrease = 100;
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < numberOfDecrease; i++) {
+            moimPopularRanking.increase(moimId, POST_ID, WRITER_NAME_ID, today);
+        }
+
+        // when
+        List<Throwable> failures = ConcurrentTaskRunner.run(numberOfIncrease + numberOfDecrease, i -> {
+            if (i % 5 < 3) {
+                moimPopularRanking.increase(moimId, POST_ID, WRITER_NAME_ID, today);
+            } else {
+                moimPopularRanking.decrease(moimId, POST_ID, WRITER_NAME_ID);
+            }
+        });
+
+        // then
+        Double score = redissonClient.getScoredSortedSet(
+                "MOIM_POPULAR_POST:" + moimId + ":" + today.format(DateTimeFormatter.BASIC_ISO_DATE), StringCodec.INSTANCE
+        ).getScore(String.valueOf(POST_ID));
+        assertThat(failures).isEmpty();
+        assertThat(score).isEqualTo((double) numberOfIncrease);
+        assertThat(moimPopularRanking.getTopWriterNameIds(moimId, 2)).isEqualTo(List.of(WRITER_NAME_ID));
+    }
+
+    @Test
+    @DisplayName("7일 간의 점수를 합산해 순위를 매기고, 같은 점수는 최신 글(큰 id)이 앞선다.")
+    public void getTopPostIdsTest() {
+        // given
+        LocalDate today = LocalDate.now();
+        moimPopularRanking.increase(moimId, 9L, WRITER_NAME_ID, today);
+        moimPopularRanking.increase(moimId, 12L, WRITER_NAME_ID, today.minusDays(3));
+        moimPopularRanking.increase(moimId, 3L, WRITER_NAME_ID, today);
+        moimPopularRanking.increase(moimId, 3L, WRITER_NAME_ID, today.minusDays(6));
+        moimPopularRanking.increase(moimId, 5L, WRITER_NAME_ID, today.minusDays(1));
+        moimPopularRanking.decrease(moimId, 5L, WRITER_NAME_ID);
+
+        // when
+        List<Long> topPostIds = moimPopularRanking.getTopPostIds(moimId, 2);
+
+        // then
+        assertThat(topPostIds).isEqualTo(List.of(3L, 12L));
+    }
+}
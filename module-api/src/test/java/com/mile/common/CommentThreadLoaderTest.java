@@ -0,0 +1,143 @@
+package com.mile.common;
+
+import com.mile.client.SocialType;
+import com.mile.comment.domain.Comment;
+import com.mile.comment.repository.CommentRepository;
+import com.mile.comment.service.dto.CommentPageResponse;
+import com.mile.comment.service.dto.CommentPreviewResponse;
+import com.mile.commentreply.domain.CommentReply;
+import com.mile.commentreply.repository.CommentReplyRepository;
+import com.mile.moim.domain.Moim;
+import com.mile.moim.repository.MoimRepository;
+import com.mile.moim.service.dto.request.MoimCreateRequest;
+import com.mile.moim.service.dto.request.TopicCreateRequest;
+import com.mile.moim.service.dto.request.WriterMemberJoinRequest;
+import com.mile.post.domain.Post;
+import com.mile.post.repository.PostRepository;
+import com.mile.post.service.PostService;
+import com.mile.post.service.dto.request.CommentCreateRequest;
+import com.mile.post.service.dto.response.CommentListResponse;
+import com.mile.topic.domain.Topic;
+import com.mile.topic.repository.TopicRepository;
+import com.mile.user.domain.User;
+import com.mile.user.repository.UserRepository;
+import com.mile.writername.domain.MoimRole;
+import com.mile.writername.domain.WriterName;
+import com.mile.writername.repository.WriterNameRepository;
+import com.mile.writername.service.vo.WriterNameInfo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CommentThreadLoaderTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MoimRepository moimRepository;
+    @Autowired
+    private WriterNameRepository writerNameRepository;
+    @Autowired
+    private TopicRepository topicRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CommentReplyRepository commentReplyRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Topic topic;
+    private WriterName writerName;
+    private final HashMap<Long, WriterNameInfo> joinedRole = new HashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        String randomString = UUID.randomUUID().toString().substring(0, 3);
+        User user = userRepository.saveAndFlush(User.of(randomString, randomString, SocialType.GOOGLE));
+        Moim moim = moimRepository.saveAndFlush(Moim.create(new MoimCreateRequest(
+                randomString,
+                randomString,
+                true,
+                randomString,
+                randomString,
+                randomString,
+                randomString,
+                randomString,
+                randomString
+        )));
+        writerName = writerNameRepository.saveAndFlush(WriterName.of(moim, new WriterMemberJoinRequest(randomString, randomString), user));
+        moim.setOwner(writerName);
+        moimRepository.saveAndFlush(moim);
+        topic = topicRepository.saveAndFlush(Topic.create(moim, new TopicCreateRequest(randomString, randomString, randomString)));
+        joinedRole.put(moim.getId(), WriterNameInfo.of(writerName.getId(), MoimRole.OWNER));
+    }
+
+    @Test
+    @DisplayName("댓글 수가 늘어나도 댓글 목록 조회 쿼리 수는 일정하다.")
+    public void commentThreadQueryCountTest() {
+        // given
+        Post smallPost = createPostWithComments(2);
+        Post largePost = createPostWithComments(20);
+
+        // when
+        long smallPostQueryCount = countQueries(smallPost);
+        long largePostQueryCount = countQueries(largePost);
+
+        // then
+        assertThat(largePostQueryCount).isEqualTo(smallPostQueryCount);
+    }
+
+    @Test
+    @DisplayName("커서로 댓글 페이지를 이어서 조회하면 모든 댓글을 중복 없이 한 번씩 조회한다.")
+    public void commentPageCursorTest() {
+        // given
+        Post post = createPostWithComments(5);
+
+        // when
+        List<CommentPreviewResponse> comments = new ArrayList<>();
+        String cursor = null;
+        do {
+            CommentPageResponse page = postService.getCommentPage(post.getId(), joinedRole, cursor, 2);
+            comments.addAll(page.comments());
+            assertThat(page.comments().size()).isLessThanOrEqualTo(2);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(comments).hasSize(5);
+    }
+
+    private Post createPostWithComments(final int commentCount) {
+        Post post = postRepository.saveAndFlush(Post.create(topic, writerName, "title", null, false, false, false));
+        for (int i = 0; i < commentCount; i++) {
+            Comment comment = commentRepository.saveAndFlush(Comment.create(post, writerName, new CommentCreateRequest("comment", i % 2 == 0)));
+            commentReplyRepository.saveAndFlush(CommentReply.create(writerName, comment, "reply", false));
+        }
+        return post;
+    }
+
+    private long countQueries(final Post post) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CommentListResponse response = postService.getComments(post.getId(), joinedRole);
+        assertThat(response.comments()).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,58 @@
+package com.mile.common;
+
+import com.mile.common.auth.JoinedRoleCodec;
+import com.mile.common.auth.JoinedRoleMap;
+import com.mile.exception.model.UnauthorizedException;
+import com.mile.writername.domain.MoimRole;
+import com.mile.writername.service.vo.WriterNameInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JoinedRoleCodecTest {
+
+    @Test
+    @DisplayName("가입 모임 정보를 인코딩한 뒤 디코딩하면 같은 정보가 조회된다.")
+    public void encodeAndDecodeTest() {
+        // given
+        Map<Long, WriterNameInfo> joinedRole = new HashMap<>();
+        joinedRole.put(300L, WriterNameInfo.of(12L, MoimRole.WRITER));
+        joinedRole.put(1L, WriterNameInfo.of(Long.MAX_VALUE, MoimRole.OWNER));
+        joinedRole.put(70_000L, WriterNameInfo.of(5L, MoimRole.WRITER));
+
+        // when
+        JoinedRoleMap roleMap = JoinedRoleCodec.decode(JoinedRoleCodec.encode(joinedRole));
+
+        // then
+        assertThat(roleMap.size()).isEqualTo(3);
+        assertThat(roleMap.containsMoim(2L)).isFalse();
+        assertThat(roleMap.getRole(1L)).isEqualTo(MoimRole.OWNER);
+        assertThat(roleMap.getWriterNameId(1L)).isEqualTo(Long.MAX_VALUE);
+        assertThat(roleMap.getWriterNameId(70_000L)).isEqualTo(5L);
+        assertThat(roleMap.toHashMap()).isEqualTo(joinedRole);
+    }
+
+    @Test
+    @DisplayName("가입한 모임이 없어도 인코딩/디코딩된다.")
+    public void emptyRoleTest() {
+        // when
+        JoinedRoleMap roleMap = JoinedRoleCodec.decode(JoinedRoleCodec.encode(Map.of()));
+
+        // then
+        assertThat(roleMap.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 클레임은 토큰 검증 에러로 처리된다.")
+    public void invalidClaimTest() {
+        assertThatThrownBy(() -> JoinedRoleCodec.decode("AQU"))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> JoinedRoleCodec.decode("not-base64!"))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+}
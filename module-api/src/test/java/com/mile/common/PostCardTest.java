@@ -0,0 +1,110 @@
+package com.mile.common;
+
+import com.mile.comment.service.CommentCreator;
+import com.mile.common.utils.SecureUrlUtil;
+import com.mile.post.domain.Post;
+import com.mile.post.domain.PostBody;
+import com.mile.post.domain.PostCard;
+import com.mile.post.repository.PostBodyRepository;
+import com.mile.post.repository.PostCardRepository;
+import com.mile.post.repository.PostRepository;
+import com.mile.post.service.PostCardBackfiller;
+import com.mile.post.service.PostCreator;
+import com.mile.post.service.PostRemover;
+import com.mile.post.service.dto.request.CommentCreateRequest;
+import com.mile.post.service.dto.request.PostCreateRequest;
+import com.mile.support.TestFixtureFactory;
+import com.mile.topic.domain.Topic;
+import com.mile.writername.domain.WriterName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@SpringBootTest
+public class PostCardTest {
+
+    private static final String CONTENT = "<p>My<p/><p>name<p/>is";
+    private static final String IMAGE_URL = "https://image.png";
+
+    @Autowired
+    private PostCreator postCreator;
+    @Autowired
+    private PostRemover postRemover;
+    @Autowired
+    private CommentCreator commentCreator;
+    @Autowired
+    private PostCardBackfiller postCardBackfiller;
+    @Autowired
+    private SecureUrlUtil secureUrlUtil;
+    @Autowired
+    private TestFixtureFactory testFixtureFactory;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostCardRepository postCardRepository;
+    @Autowired
+    private PostBodyRepository postBodyRepository;
+
+    private Topic topic;
+    private WriterName writerName;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtureFactory.MoimContext context = testFixtureFactory.createMoim("writer");
+        topic = context.topic();
+        writerName = context.writerName();
+    }
+
+    @Test
+    @DisplayName("글 작성/댓글/삭제 시 글 카드와 본문이 함께 갱신된다.")
+    public void postCardLifecycleTest() {
+        // when
+        Post post = createPost();
+        commentCreator.createComment(post, writerName, new CommentCreateRequest("comment", false));
+
+        // then
+        PostCard postCard = postCardRepository.findById(post.getId()).orElseThrow();
+        assertThat(postCard.getExcerpt()).isEqualTo("My name is");
+        assertThat(postCard.getTopicName()).isEqualTo(topic.getContent());
+        assertThat(postCard.getWriterName()).isEqualTo(writerName.getName());
+        assertThat(postCard.getCommentCount()).isEqualTo(1);
+        assertThat(postBodyRepository.findById(post.getId()).orElseThrow().getContent()).isEqualTo(CONTENT);
+
+        // when
+        postRemover.delete(postRepository.findById(post.getId()).orElseThrow());
+
+        // then
+        assertThat(postCardRepository.existsById(post.getId())).isFalse();
+        assertThat(postBodyRepository.existsById(post.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("카드 없이 저장된 글도 재생성 명령으로 카드가 만들어진다.")
+    public void backfillTest() {
+        // given
+        Post post = postRepository.saveAndFlush(Post.create(topic, writerName, "title", IMAGE_URL, true, false, false));
+        postBodyRepository.saveAndFlush(PostBody.of(post.getId(), CONTENT));
+
+        // when
+        postCardBackfiller.backfill();
+
+        // then
+        PostCard postCard = postCardRepository.findById(post.getId()).orElseThrow();
+        assertThat(postCard.getExcerpt()).isEqualTo("My name is");
+        assertThat(postCard.getTitle()).isEqualTo("title");
+    }
+
+    private Post createPost() {
+        String postIdUrl = postCreator.create(
+                new PostCreateRequest(null, null, "title", CONTENT, IMAGE_URL, false),
+                topic,
+                writerName
+        );
+        return postRepository.findById(secureUrlUtil.decodeUrl(postIdUrl)).orElseThrow();
+    }
+}
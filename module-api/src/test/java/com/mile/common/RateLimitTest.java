@@ -0,0 +1,83 @@
+package com.mile.common;
+
+import com.mile.common.utils.SecureUrlUtil;
+import com.mile.exception.message.ErrorMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class RateLimitTest {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final int MAX_REQUEST = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private SecureUrlUtil secureUrlUtil;
+
+    @Test
+    @DisplayName("한도를 넘긴 익명 요청은 429 와 42901 응답을 받는다.")
+    public void throttledResponseTest() throws Exception {
+        // given
+        String clientIp = randomIp();
+
+        // when
+        MvcResult throttled = requestUntilThrottled(() -> clientIp);
+
+        // then
+        assertThat(throttled).isNotNull();
+        assertThat(throttled.getResponse().getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(throttled.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(throttled.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .contains(String.valueOf(ErrorMessage.RATE_LIMIT_EXCEEDED_EXCEPTION.getStatus()));
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 의 앞쪽 값을 바꿔 보내도 버킷이 초기화되지 않는다.")
+    public void spoofedForwardedForTest() throws Exception {
+        // given
+        String clientIp = randomIp();
+
+        // when
+        MvcResult throttled = requestUntilThrottled(() -> UUID.randomUUID() + ", " + clientIp);
+
+        // then
+        assertThat(throttled).isNotNull();
+        assertThat(throttled.getResponse().getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    private MvcResult requestUntilThrottled(final Supplier<String> forwardedFor) throws Exception {
+        String moimUrl = secureUrlUtil.encodeUrl(Long.MAX_VALUE);
+        for (int i = 0; i < MAX_REQUEST; i++) {
+            MvcResult result = mockMvc.perform(get("/api/moim/" + moimUrl + "/info")
+                            .header(FORWARDED_FOR_HEADER, forwardedFor.get()))
+                    .andReturn();
+            if (result.getResponse().getStatus() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private String randomIp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(1, 255);
+    }
+}
@@ -0,0 +1,177 @@
+package com.mile.common;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mile.common.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.codec.Kryo5Codec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@SpringBootTest
+public class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "twoLevelCacheTest";
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private SimpleMeterRegistry firstRegistry;
+    private TwoLevelCacheManager firstManager;
+    private TwoLevelCacheManager secondManager;
+    private Cache firstNode;
+    private Cache secondNode;
+
+    @BeforeEach
+    void setUp() {
+        firstRegistry = new SimpleMeterRegistry();
+        firstManager = createNode(firstRegistry);
+        secondManager = createNode(new SimpleMeterRegistry());
+        firstNode = firstManager.getCache(CACHE_NAME);
+        secondNode = secondManager.getCache(CACHE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        firstManager.destroy();
+        secondManager.destroy();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 저장한 값은 다른 노드에서 L2 를 통해 조회된다.")
+    public void putAndGetFromOtherNodeTest() {
+        // given
+        String key = UUID.randomUUID().toString();
+
+        // when
+        firstNode.put(key, "value");
+
+        // then
+        assertThat(secondNode.get(key, String.class)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("한 노드에서 캐시를 삭제하면 다른 노드의 L1 캐시도 삭제된다.")
+    public void evictPropagatesToOtherNodeTest() throws InterruptedException {
+        // given
+        String key = UUID.randomUUID().toString();
+        firstNode.put(key, "value");
+        assertThat(secondNode.get(key, String.class)).isEqualTo("value");
+
+        // when
+        firstNode.evict(key);
+
+        // then
+        assertThat(awaitLocalEviction(secondNode, key)).isTrue();
+        assertThat(secondNode.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 값을 갱신하면 다른 노드는 오래된 L1 값 대신 새 값을 조회한다.")
+    public void putPropagatesToOtherNodeTest() throws InterruptedException {
+        // given
+        String key = UUID.randomUUID().toString();
+        firstNode.put(key, "old");
+        assertThat(secondNode.get(key, String.class)).isEqualTo("old");
+
+        // when
+        firstNode.put(key, "new");
+
+        // then
+        assertThat(awaitLocalEviction(secondNode, key)).isTrue();
+        assertThat(secondNode.get(key, String.class)).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("여러 노드에서 같은 키를 동시에 조회해도 값은 한 번만 로딩된다.")
+    public void singleFlightLoadTest() throws InterruptedException {
+        // given
+        String key = UUID.randomUUID().toString();
+        int numberOfThread = 20;
+        AtomicInteger loadCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThread);
+        CountDownLatch latch = new CountDownLatch(numberOfThread);
+
+        // when
+        for (int i = 0; i < numberOfThread; i++) {
+            Cache node = i % 2 == 0 ? firstNode : secondNode;
+            executorService.submit(() -> {
+                try {
+                    node.get(key, () -> {
+                        loadCount.incrementAndGet();
+                        Thread.sleep(500);
+                        return "value";
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(secondNode.get(key, String.class)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("캐시 미스 후 로딩하는 조회는 미스를 한 번만 기록한다.")
+    public void missCountedOnceTest() {
+        // given
+        String key = UUID.randomUUID().toString();
+
+        // when
+        firstNode.get(key, () -> "value");
+        firstNode.get(key, () -> "value");
+
+        // then
+        assertThat(countGets("miss")).isEqualTo(1.0);
+        assertThat(countGets("l1-hit")).isEqualTo(1.0);
+    }
+
+    private double countGets(final String result) {
+        return firstRegistry.get("cache.two-level.gets").tag("cache", CACHE_NAME).tag("result", result).counter().count();
+    }
+
+    private TwoLevelCacheManager createNode(final MeterRegistry meterRegistry) {
+        return new TwoLevelCacheManager(
+                redissonClient,
+                Caffeine.newBuilder().maximumSize(100),
+                Duration.ofMinutes(1),
+                new Kryo5Codec(),
+                meterRegistry
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean awaitLocalEviction(
+            final Cache cache,
+            final String key
+    ) throws InterruptedException {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        for (int i = 0; i < 30; i++) {
+            if (localCache.getIfPresent(key) == null) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package com.mile.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+여러 작업을 동시에 실행하고, 모든 작업이 끝나면 작업 안에서 던져진 예외를 모아 반환한다.
+ */
+public final class ConcurrentTaskRunner {
+
+    private static final int THREAD_POOL_SIZE = 32;
+
+    private ConcurrentTaskRunner() {
+    }
+
+    public static List<Throwable> run(
+            final int numberOfTasks,
+            final IndexedTask task
+    ) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < numberOfTasks; i++) {
+                final int index = i;
+                futures.add(executorService.submit(() -> task.run(index)));
+            }
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    public interface IndexedTask {
+        void run(final int index);
+    }
+}
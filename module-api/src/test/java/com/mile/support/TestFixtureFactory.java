@@ -0,0 +1,71 @@
+package com.mile.support;
+
+import com.mile.client.SocialType;
+import com.mile.moim.domain.Moim;
+import com.mile.moim.repository.MoimRepository;
+import com.mile.moim.service.dto.request.MoimCreateRequest;
+import com.mile.moim.service.dto.request.TopicCreateRequest;
+import com.mile.moim.service.dto.request.WriterMemberJoinRequest;
+import com.mile.post.domain.Post;
+import com.mile.post.repository.PostRepository;
+import com.mile.topic.domain.Topic;
+import com.mile.topic.repository.TopicRepository;
+import com.mile.user.domain.User;
+import com.mile.user.repository.UserRepository;
+import com.mile.writername.domain.WriterName;
+import com.mile.writername.repository.WriterNameRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/*
+테스트마다 겹치지 않는 사용자, 글모임, 글감, 필명을 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestFixtureFactory {
+
+    private final UserRepository userRepository;
+    private final MoimRepository moimRepository;
+    private final TopicRepository topicRepository;
+    private final WriterNameRepository writerNameRepository;
+    private final PostRepository postRepository;
+
+    public MoimContext createMoim(final String writerName) {
+        String randomString = UUID.randomUUID().toString().substring(0, 7);
+        User user = userRepository.saveAndFlush(User.of(randomString, randomString, SocialType.GOOGLE));
+        Moim moim = moimRepository.saveAndFlush(Moim.create(
+                new MoimCreateRequest(randomString, "string", true, null, "string", "string", "string", "str", "string")
+        ));
+        Topic topic = topicRepository.saveAndFlush(Topic.create(moim, TopicCreateRequest.of("string", "str", "string")));
+        return new MoimContext(user, moim, topic, saveWriterName(moim, user, writerName));
+    }
+
+    public WriterName createWriterName(
+            final MoimContext context,
+            final String name
+    ) {
+        return saveWriterName(context.moim(), context.user(), name);
+    }
+
+    public Post createPost(final MoimContext context) {
+        return postRepository.saveAndFlush(Post.create(context.topic(), context.writerName(), "title", null, false, false, false));
+    }
+
+    private WriterName saveWriterName(
+            final Moim moim,
+            final User user,
+            final String name
+    ) {
+        return writerNameRepository.saveAndFlush(WriterName.of(moim, WriterMemberJoinRequest.of(name, "string"), user));
+    }
+
+    public record MoimContext(
+            User user,
+            Moim moim,
+            Topic topic,
+            WriterName writerName
+    ) {
+    }
+}
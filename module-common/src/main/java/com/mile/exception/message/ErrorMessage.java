@@ -44,12 +44,14 @@ public enum ErrorMessage {
     MOIM_NAME_VALIDATE_ERROR(40018, "사용 불가능한 모임명입니다."),
     EXCEED_MOIM_MAX_SIZE(40019, "최대 가입 가능 모임 개수(5개)를 초과하였습니다."),
     REFRESH_TOKEN_NULL(40020, "리프레시 토큰의 값이 비어있습니다."),
+    INVALID_CURSOR_EXCEPTION(40021, "유효하지 않은 커서입니다."),
     /*
     Conflict
      */
     CURIOUS_ALREADY_EXISTS_EXCEPTION(40900, "'궁금해요'는 이미 존재합니다."),
     WRITER_NAME_ALREADY_EXIST(40901, "이미 가입한 모임입니다."),
     WRITER_NAME_OF_MOIM_ALREADY_EXISTS_EXCEPTION(40902, "모임에 이미 존재하는 필명입니다."),
+    BATCH_ALREADY_RUNNING(40903, "이미 실행 중인 작업입니다."),
     /*
     Unauthorized
      */
@@ -66,6 +68,7 @@ public enum ErrorMessage {
     WRITER_NAME_INFO_FORBIDDEN(HttpStatus.FORBIDDEN.value(), "해당 사용자는 필명에 접근 권한이 없습니다."),
     COMMENT_ACCESS_ERROR(40305, "해당 사용자는 댓글에 접근 권한이 없습니다."),
     WRITER_NAME_NON_AUTHENTICATE(40306, "사용자는 모임에 대한 접근 권한이 없습니다.(Non Error)"),
+    INTERNAL_API_FORBIDDEN(40307, "내부 API 에 접근 권한이 없습니다."),
     /*
     Method Not Supported
      */
@@ -74,6 +77,7 @@ public enum ErrorMessage {
     Too Many Requests
      */
     TOO_MANY_REQUESTS_EXCEPTION(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 중복되었습니다."),
+    RATE_LIMIT_EXCEEDED_EXCEPTION(42901, "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
     /*
     Internal Server Error
      */
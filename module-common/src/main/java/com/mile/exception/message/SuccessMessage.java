@@ -14,6 +14,7 @@ public enum SuccessMessage {
     LOGOUT_SUCCESS(HttpStatus.OK.value(), "로그아웃이 완료되었습니다."),
     TOPIC_SEARCH_SUCCESS(HttpStatus.OK.value(), "주제 조회가 완료되었습니다."),
     COMMENT_SEARCH_SUCCESS(HttpStatus.OK.value(), "댓글 조회가 완료되었습니다."),
+    REPLY_SEARCH_SUCCESS(HttpStatus.OK.value(), "대댓글 조회가 완료되었습니다."),
     MOIM_AUTHENTICATE_SUCCESS(HttpStatus.OK.value(), "사용자의 권한이 확인되었습니다."),
     CURIOUS_INFO_SEARCH_SUCCESS(HttpStatus.OK.value(), "궁금해요 개수 및 궁금해요 여부 조회가 완료되었습니다."),
     CURIOUS_DELETE_SUCCESS(HttpStatus.OK.value(), "궁금해요 삭제가 완료되었습니다."),
@@ -55,6 +56,9 @@ public enum SuccessMessage {
     MOIM_PUBLIC_STATUS_GET_SUCCESS(HttpStatus.OK.value(), "글모임 공개여부 조회가 완료되었습니다."),
     MOIM_DELETE_SUCCESS(HttpStatus.OK.value(), "글모임 삭제가 완료되었습니다."),
     MOIM_POST_MAP_GET_SUCCESS(HttpStatus.OK.value(), "메타데이터를 위한 글-글모임 전체데이터가 조회가 완료되었습니다"),
+    HANDLER_AUTH_LIST_GET_SUCCESS(HttpStatus.OK.value(), "핸들러 별 인증 정보 조회가 완료되었습니다."),
+    POST_CARD_BACKFILL_SUCCESS(HttpStatus.OK.value(), "글 카드 재생성이 완료되었습니다."),
+    POST_BODY_MIGRATE_SUCCESS(HttpStatus.OK.value(), "글 본문 이전이 완료되었습니다."),
     /*
     201 CREATED
      */
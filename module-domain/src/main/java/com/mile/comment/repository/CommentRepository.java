@@ -3,12 +3,14 @@ package com.mile.comment.repository;
 import com.mile.comment.domain.Comment;
 import com.mile.post.domain.Post;
 import com.mile.writername.domain.WriterName;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -18,6 +20,24 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByPostId(final Long postId);
 
+    @Query("select c from Comment c join fetch c.writerName w join fetch w.moim where c.post.id = :postId order by c.id")
+    List<Comment> findAllWithWriterNameByPostId(@Param("postId") final Long postId);
+
+    @Query("select c from Comment c join fetch c.writerName w join fetch w.moim where c.post.id = :postId order by c.createdAt, c.id")
+    List<Comment> findFirstPageByPostId(
+            @Param("postId") final Long postId,
+            final Pageable pageable
+    );
+
+    @Query("select c from Comment c join fetch c.writerName w join fetch w.moim where c.post.id = :postId " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) order by c.createdAt, c.id")
+    List<Comment> findPageByPostIdAfter(
+            @Param("postId") final Long postId,
+            @Param("createdAt") final LocalDateTime createdAt,
+            @Param("id") final Long id,
+            final Pageable pageable
+    );
+
     @Transactional
     @Modifying
     @Query("delete from Comment c where c.post = :post")
@@ -28,6 +48,8 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("DELETE FROM Comment c where c.writerName = :writerName")
     void deleteAllByWriterName(@Param("writerName") final WriterName writerName);
 
+    @Query("select distinct c.post.id from Comment c where c.writerName = :writerName")
+    List<Long> findPostIdsByWriterName(@Param("writerName") final WriterName writerName);
+
     int countByPost(final Post post);
-    int countByWriterName(final WriterName writerName);
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package com.mile.comment.service;
 
 import com.mile.comment.domain.Comment;
 import com.mile.comment.repository.CommentRepository;
+import com.mile.moim.service.activity.MoimDailyActivityUpdator;
 import com.mile.post.domain.Post;
+import com.mile.post.service.PostUpdator;
 import com.mile.post.service.dto.request.CommentCreateRequest;
 import com.mile.common.utils.SecureUrlUtil;
 import com.mile.writername.domain.WriterName;
+import com.mile.writername.service.WriterNameUpdator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +18,9 @@ public class CommentCreator {
 
     private final CommentRepository commentRepository;
     private final SecureUrlUtil secureUrlUtil;
+    private final MoimDailyActivityUpdator moimDailyActivityUpdator;
+    private final PostUpdator postUpdator;
+    private final WriterNameUpdator writerNameUpdator;
 
     private Comment create(
             final Post post,
@@ -32,6 +38,9 @@ public class CommentCreator {
         Comment comment = create(post, writerName, commentCreateRequest);
         comment.setIdUrl(secureUrlUtil.encodeUrl(comment.getId()));
         commentRepository.save(comment);
+        postUpdator.increaseCommentCount(post.getId());
+        writerNameUpdator.increaseCommentCount(writerName);
+        moimDailyActivityUpdator.increaseCommentCount(post.getTopic().getMoim().getId());
     }
 
 }
@@ -3,12 +3,17 @@ package com.mile.comment.service;
 import com.mile.comment.domain.Comment;
 import com.mile.comment.repository.CommentRepository;
 import com.mile.commentreply.service.CommentReplyRemover;
+import com.mile.commentreply.service.CommentReplyRetriever;
 import com.mile.post.domain.Post;
+import com.mile.post.service.PostUpdator;
 import com.mile.writername.domain.WriterName;
+import com.mile.writername.service.WriterNameUpdator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -17,6 +22,9 @@ public class CommentRemover {
     private final CommentRepository commentRepository;
     private final CommentReplyRemover commentReplyRemover;
     private final CommentRetriever commentRetriever;
+    private final PostUpdator postUpdator;
+    private final CommentReplyRetriever commentReplyRetriever;
+    private final WriterNameUpdator writerNameUpdator;
 
     public void deleteAllCommentByWriterNameId(
             final WriterName writerName
@@ -28,6 +36,8 @@ public class CommentRemover {
             final Comment comment
     ) {
         commentRepository.delete(comment);
+        postUpdator.decreaseCommentCount(comment.getPost().getId(), 1);
+        writerNameUpdator.decreaseCommentCount(comment.getWriterName());
     }
 
 
@@ -37,15 +47,28 @@ public class CommentRemover {
         commentRepository.deleteAllByPost(post);
     }
 
+    /*
+    글에 댓글/답글을 단 필명들의 댓글 수도 함께 줄어들므로, 지우기 전에 필명을 모아 두었다가 다시 센다.
+     */
     public void deleteAllByPost(
             final Post post
     ) {
-        commentRetriever.findByPostId(post.getId()).forEach(commentReplyRemover::deleteRepliesByComment);
+        List<Comment> comments = commentRetriever.findByPostId(post.getId());
+        Set<Long> writerNameIds = new HashSet<>(commentReplyRetriever.findWriterNameIdsByPostId(post.getId()));
+        comments.forEach(comment -> writerNameIds.add(comment.getWriterName().getId()));
+        commentReplyRemover.deleteRepliesByComments(comments);
         deleteByPost(post);
+        writerNameUpdator.recountActivityCount(writerNameIds);
     }
 
+    /*
+    글모임과 함께 지워지는 댓글이므로 필명의 댓글 수는 갱신하지 않는다.
+     */
     public void deleteComments(final List<Post> posts) {
-        posts.forEach(this::deleteAllByPost);
+        posts.forEach(post -> {
+            commentReplyRemover.deleteRepliesByComments(commentRetriever.findByPostId(post.getId()));
+            deleteByPost(post);
+        });
     }
 
 
@@ -3,11 +3,13 @@ package com.mile.comment.service;
 import com.mile.comment.domain.Comment;
 import com.mile.comment.repository.CommentRepository;
 import com.mile.commentreply.service.CommentReplyRetriever;
+import com.mile.common.utils.TimeCursor;
 import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.NotFoundException;
 import com.mile.post.domain.Post;
 import com.mile.writername.domain.WriterName;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -19,16 +21,27 @@ public class CommentRetriever {
 
     private final CommentRepository commentRepository;
 
-    public int findCommentCountByWriterName(
-            final WriterName writerName
+    public List<Comment> findByPostId(
+            final Long postId
     ) {
-        return commentRepository.countByWriterName(writerName);
+        return commentRepository.findByPostId(postId);
     }
 
-    public List<Comment> findByPostId(
+    public List<Comment> findAllWithWriterNameByPostId(
             final Long postId
     ) {
-        return commentRepository.findByPostId(postId);
+        return commentRepository.findAllWithWriterNameByPostId(postId);
+    }
+
+    public List<Comment> findPageByPostId(
+            final Long postId,
+            final TimeCursor cursor,
+            final int size
+    ) {
+        if (cursor == null) {
+            return commentRepository.findFirstPageByPostId(postId, PageRequest.of(0, size));
+        }
+        return commentRepository.findPageByPostIdAfter(postId, cursor.createdAt(), cursor.id(), PageRequest.of(0, size));
     }
 
     public boolean isCommentWriterEqualWriterOfPost(
@@ -58,6 +71,12 @@ public class CommentRetriever {
                 );
     }
 
+    public List<Long> findPostIdsByWriterName(
+            final WriterName writerName
+    ) {
+        return commentRepository.findPostIdsByWriterName(writerName);
+    }
+
     public int countByPost(
             final Post post
     ) {
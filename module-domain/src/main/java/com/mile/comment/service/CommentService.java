@@ -1,23 +1,27 @@
 package com.mile.comment.service;
 
 import com.mile.comment.domain.Comment;
+import com.mile.comment.service.dto.CommentPageResponse;
 import com.mile.comment.service.dto.CommentResponse;
 import com.mile.commentreply.service.CommentReplyRemover;
 import com.mile.commentreply.service.CommentReplyService;
 import com.mile.commentreply.service.dto.request.ReplyCreateRequest;
+import com.mile.commentreply.service.dto.response.ReplyPageResponse;
 import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.ForbiddenException;
 import com.mile.moim.service.MoimRetriever;
 import com.mile.post.domain.Post;
 import com.mile.post.service.PostRetriever;
+import com.mile.util.MoimWriterNameMapUtil;
 import com.mile.writername.service.WriterNameRetriever;
+import com.mile.writername.service.vo.WriterNameInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +34,7 @@ public class CommentService {
     private final CommentRemover commentRemover;
     private final CommentReplyRemover commentReplyRemover;
     private final MoimRetriever moimRetriever;
+    private final CommentThreadLoader commentThreadLoader;
 
 
     @Transactional
@@ -57,15 +62,31 @@ public class CommentService {
             final Post post,
             final Long writerNameId
     ) {
-        List<Comment> commentList = commentRetriever.findByPostId(post.getId());
+        return commentThreadLoader.load(post, writerNameId);
+    }
+
+    public CommentPageResponse getCommentPage(
+            final Post post,
+            final Long writerNameId,
+            final String cursor,
+            final int size
+    ) {
+        return commentThreadLoader.loadPage(post, writerNameId, cursor, size);
+    }
 
-        return commentList.stream()
-                .map(comment -> CommentResponse.of(
-                        comment,
-                        writerNameId,
-                        commentRetriever.isCommentWriterEqualWriterOfPost(comment, post),
-                        commentReplyService.findRepliesByComment(comment, writerNameId)))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public ReplyPageResponse getReplyPage(
+            final Long commentId,
+            final HashMap<Long, WriterNameInfo> moimWriterNameMap,
+            final String cursor,
+            final int size
+    ) {
+        Comment comment = commentRetriever.findById(commentId);
+        final Long writerNameId = MoimWriterNameMapUtil.getWriterNameIdMoimWriterNameMap(
+                commentRetriever.getMoimIdFromComment(comment),
+                moimWriterNameMap
+        );
+        return commentThreadLoader.loadReplyPage(comment, writerNameId, cursor, size);
     }
 
     public String createCommentReply(
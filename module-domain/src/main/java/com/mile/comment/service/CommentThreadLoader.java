@@ -0,0 +1,155 @@
+package com.mile.comment.service;
+
+import com.mile.comment.domain.Comment;
+import com.mile.comment.service.dto.CommentPageResponse;
+import com.mile.comment.service.dto.CommentPreviewResponse;
+import com.mile.comment.service.dto.CommentResponse;
+import com.mile.commentreply.domain.CommentReply;
+import com.mile.commentreply.service.CommentReplyRetriever;
+import com.mile.commentreply.service.dto.response.ReplyPageResponse;
+import com.mile.commentreply.service.dto.response.ReplyResponse;
+import com.mile.common.utils.SecureUrlUtil;
+import com.mile.post.domain.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 글의 댓글과 답글을 필명, 글모임과 함께 각각 한 번의 쿼리로 읽어 메모리에서 댓글 트리를 조립한다.
+ * <p>
+ * 댓글 수와 관계없이 쿼리 수가 일정하도록 댓글 별 답글 조회나 지연 로딩을 하지 않는다.
+ * 페이지 조회는 댓글을 (생성 시각, ID) 키셋으로 나눠 읽고, 댓글 별 답글은 REPLY_PREVIEW_SIZE 개만 미리 담은 뒤 나머지는 답글 페이지로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentThreadLoader {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int REPLY_PREVIEW_SIZE = 2;
+
+    private final CommentRetriever commentRetriever;
+    private final CommentReplyRetriever commentReplyRetriever;
+    private final SecureUrlUtil secureUrlUtil;
+
+    public List<CommentResponse> load(
+            final Post post,
+            final Long writerNameId
+    ) {
+        final List<Comment> comments = commentRetriever.findAllWithWriterNameByPostId(post.getId());
+        if (comments.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<Long, List<CommentReply>> repliesByCommentId = groupByCommentId(
+                commentReplyRetriever.findAllWithWriterNameByPostId(post.getId())
+        );
+        final Long postWriterNameId = post.getWriterName().getId();
+
+        return comments.stream()
+                .map(comment -> toCommentResponse(
+                        comment,
+                        writerNameId,
+                        postWriterNameId,
+                        repliesByCommentId.getOrDefault(comment.getId(), Collections.emptyList())
+                ))
+                .collect(Collectors.toList());
+    }
+
+    public CommentPageResponse loadPage(
+            final Post post,
+            final Long writerNameId,
+            final String cursor,
+            final int size
+    ) {
+        final int pageSize = getPageSize(size);
+        final List<Comment> comments = commentRetriever.findPageByPostId(
+                post.getId(),
+                cursor == null ? null : secureUrlUtil.decodeCursor(cursor),
+                pageSize + 1
+        );
+        final boolean hasNext = comments.size() > pageSize;
+        final List<Comment> page = hasNext ? comments.subList(0, pageSize) : comments;
+        if (page.isEmpty()) {
+            return CommentPageResponse.of(Collections.emptyList(), null, false);
+        }
+        final Map<Long, List<CommentReply>> previewsByCommentId = groupByCommentId(
+                commentReplyRetriever.findFirstRepliesByCommentIds(page.stream().map(Comment::getId).toList(), REPLY_PREVIEW_SIZE + 1)
+        );
+        final Long postWriterNameId = post.getWriterName().getId();
+
+        final List<CommentPreviewResponse> previews = page.stream()
+                .map(comment -> {
+                    List<CommentReply> replies = previewsByCommentId.getOrDefault(comment.getId(), Collections.emptyList());
+                    boolean hasMoreReplies = replies.size() > REPLY_PREVIEW_SIZE;
+                    List<CommentReply> preview = hasMoreReplies ? replies.subList(0, REPLY_PREVIEW_SIZE) : replies;
+                    return CommentPreviewResponse.of(
+                            toCommentResponse(comment, writerNameId, postWriterNameId, preview),
+                            hasMoreReplies,
+                            hasMoreReplies ? secureUrlUtil.encodeUrl(preview.get(preview.size() - 1).getId()) : null
+                    );
+                })
+                .collect(Collectors.toList());
+        final Comment last = page.get(page.size() - 1);
+        return CommentPageResponse.of(
+                previews,
+                hasNext ? secureUrlUtil.encodeCursor(last.getCreatedAt(), last.getId()) : null,
+                hasNext
+        );
+    }
+
+    public ReplyPageResponse loadReplyPage(
+            final Comment comment,
+            final Long writerNameId,
+            final String cursor,
+            final int size
+    ) {
+        final int pageSize = getPageSize(size);
+        final List<CommentReply> replies = commentReplyRetriever.findPageByCommentId(
+                comment.getId(),
+                cursor == null ? 0L : secureUrlUtil.decodeIdCursor(cursor),
+                pageSize + 1
+        );
+        final boolean hasNext = replies.size() > pageSize;
+        final List<CommentReply> page = hasNext ? replies.subList(0, pageSize) : replies;
+        return ReplyPageResponse.of(
+                toReplyResponses(page, writerNameId, comment.getPost().getWriterName().getId()),
+                hasNext ? secureUrlUtil.encodeUrl(page.get(page.size() - 1).getId()) : null,
+                hasNext
+        );
+    }
+
+    private CommentResponse toCommentResponse(
+            final Comment comment,
+            final Long writerNameId,
+            final Long postWriterNameId,
+            final List<CommentReply> replies
+    ) {
+        return CommentResponse.of(
+                comment,
+                writerNameId,
+                comment.getWriterName().getId().equals(postWriterNameId),
+                toReplyResponses(replies, writerNameId, postWriterNameId)
+        );
+    }
+
+    private List<ReplyResponse> toReplyResponses(
+            final List<CommentReply> replies,
+            final Long writerNameId,
+            final Long postWriterNameId
+    ) {
+        return replies.stream()
+                .map(reply -> ReplyResponse.of(reply, writerNameId, reply.getWriterName().getId().equals(postWriterNameId)))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<CommentReply>> groupByCommentId(final List<CommentReply> replies) {
+        return replies.stream().collect(Collectors.groupingBy(reply -> reply.getComment().getId()));
+    }
+
+    private int getPageSize(final int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+}
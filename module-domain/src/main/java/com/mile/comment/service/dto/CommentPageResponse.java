@@ -0,0 +1,17 @@
+package com.mile.comment.service.dto;
+
+import java.util.List;
+
+public record CommentPageResponse(
+        List<CommentPreviewResponse> comments,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static CommentPageResponse of(
+            final List<CommentPreviewResponse> comments,
+            final String nextCursor,
+            final boolean hasNext
+    ) {
+        return new CommentPageResponse(comments, nextCursor, hasNext);
+    }
+}
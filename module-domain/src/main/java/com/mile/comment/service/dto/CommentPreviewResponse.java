@@ -0,0 +1,15 @@
+package com.mile.comment.service.dto;
+
+public record CommentPreviewResponse(
+        CommentResponse comment,
+        boolean hasMoreReplies,
+        String replyCursor
+) {
+    public static CommentPreviewResponse of(
+            final CommentResponse comment,
+            final boolean hasMoreReplies,
+            final String replyCursor
+    ) {
+        return new CommentPreviewResponse(comment, hasMoreReplies, replyCursor);
+    }
+}
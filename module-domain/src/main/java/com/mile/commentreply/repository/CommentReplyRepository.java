@@ -4,6 +4,7 @@ import com.mile.comment.domain.Comment;
 import com.mile.commentreply.domain.CommentReply;
 import com.mile.post.domain.Post;
 import com.mile.writername.domain.WriterName;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,9 +17,45 @@ public interface CommentReplyRepository extends JpaRepository<CommentReply, Long
 
     List<CommentReply> findByComment(final Comment comment);
 
+    @Query("select r from CommentReply r join fetch r.writerName w join fetch w.moim join r.comment c where c.post.id = :postId order by r.id")
+    List<CommentReply> findAllWithWriterNameByPostId(@Param("postId") final Long postId);
 
-    @Query("select count(commentReply) from CommentReply commentReply where commentReply.writerName = :writerName")
-    int countByWriterName(@Param("writerName") final WriterName writerName);
+    @Query("select r from CommentReply r join fetch r.writerName w join fetch w.moim where r.comment.id = :commentId and r.id > :id order by r.id")
+    List<CommentReply> findPageByCommentIdAfter(
+            @Param("commentId") final Long commentId,
+            @Param("id") final Long id,
+            final Pageable pageable
+    );
+
+    /*
+    댓글 별로 먼저 달린 limit 개의 답글 id 를 읽는다. 윈도우 함수로 댓글 마다 한 번씩만 훑는다.
+     */
+    @Query(value = """
+        SELECT ranked.id
+        FROM (
+            SELECT r.id, ROW_NUMBER() OVER (PARTITION BY r.comment_id ORDER BY r.id) AS rn
+            FROM comment_reply r
+            WHERE r.comment_id IN (:commentIds)
+        ) AS ranked
+        WHERE ranked.rn <= :limit
+    """, nativeQuery = true)
+    List<Long> findFirstReplyIdsByCommentIds(
+            @Param("commentIds") final List<Long> commentIds,
+            @Param("limit") final long limit
+    );
+
+    @Query("select r from CommentReply r join fetch r.writerName w join fetch w.moim where r.id in :ids order by r.id")
+    List<CommentReply> findAllWithWriterNameByIdIn(@Param("ids") final List<Long> ids);
+
+
+    @Query("select distinct r.comment.post.id from CommentReply r where r.writerName = :writerName")
+    List<Long> findPostIdsByWriterName(@Param("writerName") final WriterName writerName);
+
+    @Query("select distinct r.writerName.id from CommentReply r where r.comment = :comment")
+    List<Long> findWriterNameIdsByComment(@Param("comment") final Comment comment);
+
+    @Query("select distinct r.writerName.id from CommentReply r where r.comment.post.id = :postId")
+    List<Long> findWriterNameIdsByPostId(@Param("postId") final Long postId);
 
     @Query("select count(commentReply) from CommentReply commentReply where commentReply.comment.post = :post")
     int countByPost(final Post post);
@@ -26,7 +63,7 @@ public interface CommentReplyRepository extends JpaRepository<CommentReply, Long
     @Transactional
     @Modifying
     @Query("DELETE FROM CommentReply c WHERE c.comment = :comment")
-    void deleteCommentRepliesByComment(final Comment comment);
+    int deleteCommentRepliesByComment(final Comment comment);
 
     @Transactional
     @Modifying
@@ -5,7 +5,10 @@ import com.mile.commentreply.domain.CommentReply;
 import com.mile.commentreply.repository.CommentReplyRepository;
 import com.mile.commentreply.service.dto.request.ReplyCreateRequest;
 import com.mile.common.utils.SecureUrlUtil;
+import com.mile.moim.service.activity.MoimDailyActivityUpdator;
+import com.mile.post.service.PostUpdator;
 import com.mile.writername.domain.WriterName;
+import com.mile.writername.service.WriterNameUpdator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +18,9 @@ public class CommentReplyCreator {
 
     private final SecureUrlUtil secureUrlUtil;
     private final CommentReplyRepository commentReplyRepository;
+    private final MoimDailyActivityUpdator moimDailyActivityUpdator;
+    private final PostUpdator postUpdator;
+    private final WriterNameUpdator writerNameUpdator;
 
     public String createCommentReply(
             final WriterName writerName,
@@ -23,6 +29,9 @@ public class CommentReplyCreator {
     ) {
         CommentReply commentReply = commentReplyRepository.save(CommentReply.create(writerName, comment, replyCreateRequest.content(), replyCreateRequest.isAnonymous()));
         commentReply.setIdUrl(secureUrlUtil.encodeUrl(commentReply.getId()));
+        postUpdator.increaseCommentCount(comment.getPost().getId());
+        writerNameUpdator.increaseReplyCount(writerName);
+        moimDailyActivityUpdator.increaseReplyCount(comment.getPost().getTopic().getMoim().getId());
         return commentReply.getId().toString();
     }
 
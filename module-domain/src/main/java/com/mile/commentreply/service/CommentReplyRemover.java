@@ -6,7 +6,9 @@ import com.mile.commentreply.repository.CommentReplyRepository;
 
 import java.util.List;
 
+import com.mile.post.service.PostUpdator;
 import com.mile.writername.domain.WriterName;
+import com.mile.writername.service.WriterNameUpdator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,17 +17,24 @@ import org.springframework.stereotype.Component;
 public class CommentReplyRemover {
 
     private final CommentReplyRepository commentReplyRepository;
+    private final PostUpdator postUpdator;
+    private final WriterNameUpdator writerNameUpdator;
 
     public void deleteCommentReply(
             final CommentReply commentReply
     ) {
         commentReplyRepository.delete(commentReply);
+        postUpdator.decreaseCommentCount(commentReply.getComment().getPost().getId(), 1);
+        writerNameUpdator.decreaseReplyCount(commentReply.getWriterName());
     }
 
     public void deleteRepliesByComment(
             final Comment comment
     ) {
-        commentReplyRepository.deleteCommentRepliesByComment(comment);
+        List<Long> writerNameIds = commentReplyRepository.findWriterNameIdsByComment(comment);
+        int deletedCount = commentReplyRepository.deleteCommentRepliesByComment(comment);
+        postUpdator.decreaseCommentCount(comment.getPost().getId(), deletedCount);
+        writerNameUpdator.recountActivityCount(writerNameIds);
     }
 
     public void deleteRepliesByWriterName(
@@ -34,7 +43,10 @@ public class CommentReplyRemover {
         commentReplyRepository.deleteCommentRepliesByWriterName(writerName);
     }
 
+    /*
+    글이나 글모임과 함께 지워지는 답글이므로 글의 댓글 수와 필명의 답글 수는 갱신하지 않는다.
+     */
     public void deleteRepliesByComments(final List<Comment> comments) {
-        comments.forEach(this::deleteRepliesByComment);
+        comments.forEach(commentReplyRepository::deleteCommentRepliesByComment);
     }
 }
@@ -7,6 +7,7 @@ import com.mile.commentreply.service.dto.response.ReplyResponse;
 import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.NotFoundException;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,6 +15,7 @@ import com.mile.post.domain.Post;
 
 import com.mile.writername.domain.WriterName;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -49,6 +51,31 @@ public class CommentReplyRetriever {
                 .collect(Collectors.toList());
     }
 
+    public List<CommentReply> findAllWithWriterNameByPostId(
+            final Long postId
+    ) {
+        return commentReplyRepository.findAllWithWriterNameByPostId(postId);
+    }
+
+    public List<CommentReply> findPageByCommentId(
+            final Long commentId,
+            final Long lastReplyId,
+            final int size
+    ) {
+        return commentReplyRepository.findPageByCommentIdAfter(commentId, lastReplyId, PageRequest.of(0, size));
+    }
+
+    public List<CommentReply> findFirstRepliesByCommentIds(
+            final List<Long> commentIds,
+            final int limit
+    ) {
+        final List<Long> replyIds = commentReplyRepository.findFirstReplyIdsByCommentIds(commentIds, limit);
+        if (replyIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return commentReplyRepository.findAllWithWriterNameByIdIn(replyIds);
+    }
+
     public boolean authenticateReplyWithUserId(
             final Long userId,
             final CommentReply commentReply
@@ -56,8 +83,12 @@ public class CommentReplyRetriever {
         return commentReply.getWriterName().getWriter().getId().equals(userId);
     }
 
-    public int countByWriterName(final WriterName writerName) {
-        return commentReplyRepository.countByWriterName(writerName);
+    public List<Long> findPostIdsByWriterName(final WriterName writerName) {
+        return commentReplyRepository.findPostIdsByWriterName(writerName);
+    }
+
+    public List<Long> findWriterNameIdsByPostId(final Long postId) {
+        return commentReplyRepository.findWriterNameIdsByPostId(postId);
     }
 
     public int countByPost(final Post post) {
@@ -0,0 +1,17 @@
+package com.mile.commentreply.service.dto.response;
+
+import java.util.List;
+
+public record ReplyPageResponse(
+        List<ReplyResponse> replies,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static ReplyPageResponse of(
+            final List<ReplyResponse> replies,
+            final String nextCursor,
+            final boolean hasNext
+    ) {
+        return new ReplyPageResponse(replies, nextCursor, hasNext);
+    }
+}
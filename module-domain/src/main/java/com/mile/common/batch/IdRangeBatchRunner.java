@@ -0,0 +1,95 @@
+package com.mile.common.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PK 구간 단위로 나누어 실행하는 일괄 보정/이관 작업의 공통 실행기.
+ * <p>
+ * 1 부터 최대 ID 까지 BATCH_SIZE 구간 마다 작업을 실행하며, 한 구간의 실패는 로그만 남기고 다음 구간으로 넘어간다.
+ * 여러 노드에서 같은 작업이 겹치지 않도록 Redisson 잠금을 풀지 않고 lease 동안 점유하는 방식을 함께 제공한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdRangeBatchRunner {
+
+    private static final long BATCH_SIZE = 1000L;
+
+    private final RedissonClient redissonClient;
+
+    /*
+    잠금을 얻지 못하면 false 를 반환한다. Redis 장애 시에는 작업이 멈추지 않도록 실행을 허용한다.
+     */
+    public boolean tryAcquireLease(
+            final String jobName,
+            final String lockName,
+            final Duration lease
+    ) {
+        try {
+            RLock lock = redissonClient.getLock(lockName);
+            return lock.tryLock(0, lease.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RedisException e) {
+            log.error("{} 잠금 획득 중 에러 발생 -> {}", jobName, e.getMessage());
+            return true;
+        }
+    }
+
+    public void releaseLease(
+            final String jobName,
+            final String lockName
+    ) {
+        try {
+            RLock lock = redissonClient.getLock(lockName);
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        } catch (RedisException e) {
+            log.error("{} 잠금 해제 중 에러 발생 -> {}", jobName, e.getMessage());
+        }
+    }
+
+    public int run(
+            final String jobName,
+            final Long maxId,
+            final IdRangeTask task
+    ) {
+        return run(jobName, maxId, BATCH_SIZE, task);
+    }
+
+    public int run(
+            final String jobName,
+            final Long maxId,
+            final long batchSize,
+            final IdRangeTask task
+    ) {
+        if (maxId == null) {
+            return 0;
+        }
+        int updatedCount = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            try {
+                updatedCount += task.run(fromId, fromId + batchSize - 1);
+            } catch (RuntimeException e) {
+                log.error("{} 중 에러 발생 -> {}", jobName, e.getMessage());
+            }
+        }
+        log.info("{} 완료 : {}건", jobName, updatedCount);
+        return updatedCount;
+    }
+
+    @FunctionalInterface
+    public interface IdRangeTask {
+        int run(final long fromId, final long toId);
+    }
+}
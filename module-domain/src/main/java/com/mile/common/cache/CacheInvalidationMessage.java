@@ -0,0 +1,26 @@
+package com.mile.common.cache;
+
+public record CacheInvalidationMessage(
+        String nodeId,
+        String cacheName,
+        Object key
+) {
+    public static CacheInvalidationMessage evict(
+            final String nodeId,
+            final String cacheName,
+            final Object key
+    ) {
+        return new CacheInvalidationMessage(nodeId, cacheName, key);
+    }
+
+    public static CacheInvalidationMessage clear(
+            final String nodeId,
+            final String cacheName
+    ) {
+        return new CacheInvalidationMessage(nodeId, cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
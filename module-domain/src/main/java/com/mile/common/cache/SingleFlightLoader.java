@@ -0,0 +1,186 @@
+package com.mile.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 캐시 미스를 하나의 로딩으로 합친다.
+ * <p>
+ * 노드 안에서는 먼저 도착한 요청의 CompletableFuture 를 나머지 요청이 공유한다.
+ * 노드 사이에서는 Redis 임대 키를 먼저 잡은 노드만 로딩하고, 나머지 노드는 완료 메시지를 받거나 임대가 만료될 때까지 기다린 뒤 캐시를 다시 조회한다.
+ */
+@Slf4j
+public class SingleFlightLoader {
+
+    private static final String LEASE_PREFIX = "MILE_CACHE_LOAD:";
+    private static final String LOADED_TOPIC = "MILE_CACHE_LOADED";
+
+    private final RedissonClient redissonClient;
+    private final Duration leaseTime;
+    private final String nodeId;
+    private final RTopic loadedTopic;
+    private final int loadedListenerId;
+    private final Map<String, CompletableFuture<Object>> localFlights = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> remoteFlights = new ConcurrentHashMap<>();
+
+    public SingleFlightLoader(
+            final RedissonClient redissonClient,
+            final Duration leaseTime,
+            final String nodeId
+    ) {
+        this.redissonClient = redissonClient;
+        this.leaseTime = leaseTime;
+        this.nodeId = nodeId;
+        this.loadedTopic = redissonClient.getTopic(LOADED_TOPIC, StringCodec.INSTANCE);
+        this.loadedListenerId = loadedTopic.addListener(String.class, (channel, flightKey) -> onLoaded(flightKey));
+    }
+
+    public void destroy() {
+        try {
+            loadedTopic.removeListener(loadedListenerId);
+        } catch (RedisException e) {
+            log.error("캐시 로딩 완료 리스너 제거 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    /*
+    lookup 은 다른 요청이 먼저 채운 값을 확인할 때, loader 는 실제로 값을 읽어 캐시에 저장할 때 사용한다.
+     */
+    public Object load(
+            final String cacheName,
+            final Object key,
+            final Supplier<Object> lookup,
+            final Callable<Object> loader
+    ) throws Exception {
+        String flightKey = cacheName + ":" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> runningFlight = localFlights.putIfAbsent(flightKey, flight);
+        if (runningFlight != null) {
+            return awaitRunningFlight(flightKey, runningFlight, loader);
+        }
+        try {
+            flight.complete(loadAcrossNodes(flightKey, lookup, loader));
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+        } finally {
+            localFlights.remove(flightKey, flight);
+        }
+        return await(flight);
+    }
+
+    private Object loadAcrossNodes(
+            final String flightKey,
+            final Supplier<Object> lookup,
+            final Callable<Object> loader
+    ) throws Exception {
+        Object value = lookup.get();
+        if (value != null) {
+            return value;
+        }
+        RBucket<String> lease = redissonClient.getBucket(LEASE_PREFIX + flightKey, StringCodec.INSTANCE);
+        if (!acquire(lease)) {
+            awaitRemoteFlight(flightKey, lease);
+            value = lookup.get();
+            if (value != null) {
+                return value;
+            }
+            // 임대를 가진 노드가 실패했거나 임대가 만료되면 직접 로딩한다.
+            return loader.call();
+        }
+        try {
+            return loader.call();
+        } finally {
+            release(flightKey, lease);
+        }
+    }
+
+    private boolean acquire(final RBucket<String> lease) {
+        try {
+            return lease.setIfAbsent(nodeId, leaseTime);
+        } catch (RedisException e) {
+            log.error("캐시 로딩 임대 획득 중 에러 발생 -> {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(
+            final String flightKey,
+            final RBucket<String> lease
+    ) {
+        try {
+            lease.compareAndSet(nodeId, null);
+            loadedTopic.publish(flightKey);
+        } catch (RedisException e) {
+            log.error("캐시 로딩 임대 해제 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    private void awaitRemoteFlight(
+            final String flightKey,
+            final RBucket<String> lease
+    ) {
+        CompletableFuture<Void> remoteFlight = remoteFlights.computeIfAbsent(flightKey, k -> new CompletableFuture<>());
+        try {
+            // 대기를 등록하기 전에 임대가 이미 해제됐다면 완료 메시지를 놓쳤으므로 기다리지 않는다.
+            if (lease.isExists()) {
+                remoteFlight.get(leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RedisException e) {
+            log.warn("다른 노드의 캐시 로딩 대기 종료 -> {}", flightKey);
+        } finally {
+            remoteFlights.remove(flightKey, remoteFlight);
+        }
+    }
+
+    private void onLoaded(final String flightKey) {
+        CompletableFuture<Void> remoteFlight = remoteFlights.remove(flightKey);
+        if (remoteFlight != null) {
+            remoteFlight.complete(null);
+        }
+    }
+
+    /*
+    먼저 로딩을 시작한 요청은 다른 노드의 로딩을 leaseTime 만큼 기다린 뒤 직접 로딩할 수 있으므로, 그 두 배까지만 기다린다.
+    그 안에 끝나지 않으면 공유 Future 는 그대로 두고 이 요청만 직접 로딩한다.
+     */
+    private Object awaitRunningFlight(
+            final String flightKey,
+            final CompletableFuture<Object> runningFlight,
+            final Callable<Object> loader
+    ) throws Exception {
+        try {
+            return await(runningFlight.copy().orTimeout(leaseTime.multipliedBy(2).toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            log.warn("같은 노드의 캐시 로딩 대기 시간 초과 -> {}", flightKey);
+            return loader.call();
+        }
+    }
+
+    private Object await(final CompletableFuture<Object> flight) throws Exception {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
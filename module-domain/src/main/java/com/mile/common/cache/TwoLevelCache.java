@@ -0,0 +1,195 @@
+package com.mile.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.client.RedisException;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 노드 로컬 Caffeine(L1) 앞단과 Redis(L2) 뒷단으로 이루어진 캐시
+ * <p>
+ * put/evict/clear 는 L2 에 반영한 뒤 invalidationPublisher 로 다른 노드의 L1 을 비운다.
+ * {@code @Cacheable(sync = true)} 로 조회하면 같은 키의 캐시 미스는 SingleFlightLoader 를 통해 한 번만 로딩된다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final String METRIC_NAME = "cache.two-level.gets";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final RMapCache<Object, Object> remoteCache;
+    private final Duration remoteTtl;
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+    private final String nodeId;
+    private final SingleFlightLoader singleFlightLoader;
+    private final Counter localHit;
+    private final Counter remoteHit;
+    private final Counter miss;
+
+    public TwoLevelCache(
+            final String name,
+            final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+            final RMapCache<Object, Object> remoteCache,
+            final Duration remoteTtl,
+            final Consumer<CacheInvalidationMessage> invalidationPublisher,
+            final String nodeId,
+            final SingleFlightLoader singleFlightLoader,
+            final MeterRegistry meterRegistry
+    ) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.remoteTtl = remoteTtl;
+        this.invalidationPublisher = invalidationPublisher;
+        this.nodeId = nodeId;
+        this.singleFlightLoader = singleFlightLoader;
+        this.localHit = Counter.builder(METRIC_NAME).tag("cache", name).tag("result", "l1-hit").register(meterRegistry);
+        this.remoteHit = Counter.builder(METRIC_NAME).tag("cache", name).tag("result", "l2-hit").register(meterRegistry);
+        this.miss = Counter.builder(METRIC_NAME).tag("cache", name).tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(final Object key) {
+        Object value = find(key, true);
+        if (value == null) {
+            miss.increment();
+        }
+        return value;
+    }
+
+    /*
+    한 번의 호출에서 미스는 한 번만 기록하고, 로딩 중 다시 확인하는 조회는 지표에 남기지 않는다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(
+            final Object key,
+            final Callable<T> valueLoader
+    ) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+        try {
+            return (T) singleFlightLoader.load(name, key, () -> find(key, false), () -> {
+                T loaded = valueLoader.call();
+                put(key, loaded);
+                return loaded;
+            });
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(
+            final Object key,
+            final Object value
+    ) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        putRemote(key, value);
+        localCache.put(key, value);
+        publish(CacheInvalidationMessage.evict(nodeId, name, key));
+    }
+
+    @Override
+    public void evict(final Object key) {
+        try {
+            remoteCache.fastRemove(key);
+        } catch (RedisException e) {
+            log.error("L2 캐시 삭제 중 에러 발생 -> {}", e.getMessage());
+        }
+        localCache.invalidate(key);
+        publish(CacheInvalidationMessage.evict(nodeId, name, key));
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remoteCache.delete();
+        } catch (RedisException e) {
+            log.error("L2 캐시 삭제 중 에러 발생 -> {}", e.getMessage());
+        }
+        localCache.invalidateAll();
+        publish(CacheInvalidationMessage.clear(nodeId, name));
+    }
+
+    public void evictLocal(final CacheInvalidationMessage message) {
+        if (message.isClear()) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(message.key());
+        }
+    }
+
+    private Object find(
+            final Object key,
+            final boolean recordHit
+    ) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            if (recordHit) {
+                localHit.increment();
+            }
+            return value;
+        }
+        value = getRemote(key);
+        if (value != null) {
+            if (recordHit) {
+                remoteHit.increment();
+            }
+            localCache.put(key, value);
+        }
+        return value;
+    }
+
+    private Object getRemote(final Object key) {
+        try {
+            return remoteCache.get(key);
+        } catch (RedisException e) {
+            log.error("L2 캐시 조회 중 에러 발생 -> {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(
+            final Object key,
+            final Object value
+    ) {
+        try {
+            remoteCache.fastPut(key, value, remoteTtl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RedisException e) {
+            log.error("L2 캐시 저장 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    private void publish(final CacheInvalidationMessage message) {
+        try {
+            invalidationPublisher.accept(message);
+        } catch (RedisException e) {
+            log.error("캐시 무효화 메시지 발행 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.mile.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.Codec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, DisposableBean {
+
+    private static final String REMOTE_CACHE_PREFIX = "MILE_CACHE:";
+    private static final String INVALIDATION_TOPIC = "MILE_CACHE_INVALIDATION";
+    private static final Duration LOAD_LEASE_TIME = Duration.ofSeconds(5);
+
+    private final RedissonClient redissonClient;
+    private final Caffeine<Object, Object> caffeine;
+    private final Duration remoteTtl;
+    private final Codec codec;
+    private final MeterRegistry meterRegistry;
+    private final RTopic invalidationTopic;
+    private final int invalidationListenerId;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SingleFlightLoader singleFlightLoader;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Runnable> invalidationListeners = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            final RedissonClient redissonClient,
+            final Caffeine<Object, Object> caffeine,
+            final Duration remoteTtl,
+            final Codec codec,
+            final MeterRegistry meterRegistry
+    ) {
+        this.redissonClient = redissonClient;
+        this.caffeine = caffeine;
+        this.remoteTtl = remoteTtl;
+        this.codec = codec;
+        this.meterRegistry = meterRegistry;
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, codec);
+        this.invalidationListenerId = invalidationTopic.addListener(CacheInvalidationMessage.class, (channel, message) -> onInvalidation(message));
+        this.singleFlightLoader = new SingleFlightLoader(redissonClient, LOAD_LEASE_TIME, nodeId);
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /*
+    토픽 리스너는 Redisson 클라이언트에 남으므로, 매니저를 버릴 때 함께 제거해야 이후 메시지를 받지 않는다.
+     */
+    @Override
+    public void destroy() {
+        try {
+            invalidationTopic.removeListener(invalidationListenerId);
+        } catch (RedisException e) {
+            log.error("무효화 리스너 제거 중 에러 발생 -> {}", e.getMessage());
+        }
+        singleFlightLoader.destroy();
+    }
+
+    /*
+    캐시가 아닌 노드 로컬 상태도 같은 무효화 토픽으로 다른 노드에 알릴 수 있도록 이름 별 리스너를 등록한다.
+    리스너는 다른 노드가 publishInvalidation 한 경우에만 실행된다.
+     */
+    public void addInvalidationListener(
+            final String name,
+            final Runnable listener
+    ) {
+        invalidationListeners.put(name, listener);
+    }
+
+    public void publishInvalidation(final String name) {
+        try {
+            invalidationTopic.publish(CacheInvalidationMessage.clear(nodeId, name));
+        } catch (RedisException e) {
+            log.error("무효화 메시지 발행 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    private TwoLevelCache createCache(final String name) {
+        return new TwoLevelCache(
+                name,
+                caffeine.build(),
+                redissonClient.getMapCache(REMOTE_CACHE_PREFIX + name, codec),
+                remoteTtl,
+                invalidationTopic::publish,
+                nodeId,
+                singleFlightLoader,
+                meterRegistry
+        );
+    }
+
+    private void onInvalidation(final CacheInvalidationMessage message) {
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(message.cacheName());
+        if (cache != null) {
+            cache.evictLocal(message);
+        }
+        Runnable listener = invalidationListeners.get(message.cacheName());
+        if (listener != null) {
+            listener.run();
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.mile.common.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
-import org.springframework.cache.CacheManager;
+import com.mile.common.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RedissonClient;
+import org.redisson.codec.Kryo5Codec;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -15,14 +18,20 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 @EnableCaching
 public class CacheConfig {
+    private static final Duration REMOTE_CACHE_TTL = Duration.ofDays(2);
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager
-                .setAllowNullValues(false);
-        cacheManager
-                .setCaffeine(caffeineConfig());
-        return cacheManager;
+    public TwoLevelCacheManager cacheManager(
+            final RedissonClient redissonClient,
+            final MeterRegistry meterRegistry
+    ) {
+        return new TwoLevelCacheManager(
+                redissonClient,
+                caffeineConfig(),
+                REMOTE_CACHE_TTL,
+                new Kryo5Codec(),
+                meterRegistry
+        );
     }
 
     private Scheduler getScheduler() {
@@ -0,0 +1,33 @@
+package com.mile.common.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러를 직접 등록하면 스프링 부트의 기본 스케줄러가 빠지므로, @Scheduled 용 taskScheduler 를 기본 설정 그대로 함께 등록한다.
+ * <p>
+ * 인기 글/인기 작가 갱신은 전용 스케줄러에서 실행해 다른 @Scheduled 작업을 밀어내지 않고, 종료 시 스프링이 스레드를 정리한다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String MOIM_POPULAR_REFRESH_SCHEDULER = "moimPopularRefreshScheduler";
+
+    private static final int MOIM_POPULAR_REFRESH_POOL_SIZE = 2;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(final ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = MOIM_POPULAR_REFRESH_SCHEDULER)
+    public ThreadPoolTaskScheduler moimPopularRefreshScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(MOIM_POPULAR_REFRESH_POOL_SIZE);
+        scheduler.setThreadNamePrefix("moim-popular-refresh-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -21,28 +21,31 @@ public class DistributedLock {
     private final SendErrorModule sendErrorModule;
 
     public void getLock(final String key) {
-        try{
+        try {
             final RLock lock = redissonClient.getLock(key);
-            try {
-                checkAvailability(lock.tryLock(2, 3, TimeUnit.SECONDS));
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+            checkAvailability(lock.tryLock(2, 3, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MileException(ErrorMessage.TIME_OUT_EXCEPTION);
         } catch (RedisException e) {
             log.error("레디스 락 획득 중 에러 발생");
             sendErrorModule.sendError(e);
         }
     }
 
+    /*
+    임대 시간이 지나 이미 풀린 락이거나, 획득 단계에서 레디스 에러로 락 없이 진행한 경우에는 해제하지 않는다.
+     */
     public void afterLock(final String key) {
-
-       try {
-           final RLock lock = redissonClient.getLock(key);
-           lock.unlock();
-       } catch (RedisException e) {
-           log.error("레디스 락 해제 중 에러 발생");
-           sendErrorModule.sendError(e);
-       }
+        try {
+            final RLock lock = redissonClient.getLock(key);
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        } catch (RedisException e) {
+            log.error("레디스 락 해제 중 에러 발생");
+            sendErrorModule.sendError(e);
+        }
     }
 
     public void checkAvailability(final Boolean available) {
@@ -0,0 +1,107 @@
+package com.mile.common.utils;
+
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.MileException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 문자열을 첫 바이트에 저장 형식을 표시한 바이트 배열로 바꾼다.
+ * <p>
+ * COMPRESS_THRESHOLD 바이트 이상이고 압축 결과가 더 작을 때만 deflate 로 압축하며, 그 외에는 UTF-8 그대로 저장한다.
+ * 표시 바이트가 없는 값(형식 도입 전에 저장된 텍스트)은 전체를 UTF-8 로 읽는다.
+ */
+public class CompressUtil {
+
+    public static final byte FORMAT_PLAIN = 0x00;
+    public static final byte FORMAT_DEFLATE = 0x01;
+
+    private static final int COMPRESS_THRESHOLD = 1024;
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+    private static final int BUFFER_SIZE = 8192;
+
+    public static byte[] encode(final String text) {
+        byte[] plain = text.getBytes(StandardCharsets.UTF_8);
+        if (plain.length >= COMPRESS_THRESHOLD) {
+            byte[] compressed = deflate(plain);
+            if (compressed.length < plain.length) {
+                return compressed;
+            }
+        }
+        byte[] encoded = new byte[plain.length + 1];
+        encoded[0] = FORMAT_PLAIN;
+        System.arraycopy(plain, 0, encoded, 1, plain.length);
+        return encoded;
+    }
+
+    public static String decode(final byte[] encoded) {
+        if (encoded.length == 0) {
+            return "";
+        }
+        return switch (encoded[0]) {
+            case FORMAT_PLAIN -> new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8);
+            case FORMAT_DEFLATE -> new String(inflate(encoded), StandardCharsets.UTF_8);
+            default -> new String(encoded, StandardCharsets.UTF_8);
+        };
+    }
+
+    public static int decodedLength(final byte[] encoded) {
+        if (encoded.length == 0) {
+            return 0;
+        }
+        if (encoded.length >= HEADER_LENGTH && encoded[0] == FORMAT_DEFLATE) {
+            return ByteBuffer.wrap(encoded, 1, Integer.BYTES).getInt();
+        }
+        return encoded[0] == FORMAT_PLAIN ? encoded.length - 1 : encoded.length;
+    }
+
+    /*
+    형식 표시 바이트 뒤에 원본 길이를 적어 두어 압축 해제 시 버퍼를 한 번에 할당한다.
+     */
+    private static byte[] deflate(final byte[] plain) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(plain);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(plain.length / 2 + HEADER_LENGTH);
+            outputStream.write(FORMAT_DEFLATE);
+            outputStream.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(plain.length).array());
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] encoded) {
+        if (encoded.length < HEADER_LENGTH) {
+            throw new MileException(ErrorMessage.INTERNAL_SERVER_ERROR);
+        }
+        byte[] plain = new byte[ByteBuffer.wrap(encoded, 1, Integer.BYTES).getInt()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, HEADER_LENGTH, encoded.length - HEADER_LENGTH);
+            int offset = 0;
+            while (offset < plain.length && !inflater.finished()) {
+                int inflated = inflater.inflate(plain, offset, plain.length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new MileException(ErrorMessage.INTERNAL_SERVER_ERROR);
+                }
+                offset += inflated;
+            }
+            return plain;
+        } catch (DataFormatException e) {
+            throw new MileException(ErrorMessage.INTERNAL_SERVER_ERROR);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,622 @@
+package com.mile.common.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DOM 을 만들지 않고 HTML 을 앞에서부터 읽어 JsoupUtil.toPlainText 와 같은 평문을 최대 maxLength 글자까지 만든다.
+ * <p>
+ * 직접 읽는 것은 에디터가 만드는 태그(문단, 줄바꿈, 글자 서식, 링크, 이미지, 목록, 제목, 인용, pre)와 자주 쓰는 엔티티뿐이다.
+ * 블록 태그와 br 앞뒤, 모든 p 뒤에 공백 하나를 두고, 공백 문자는 하나로 합치며, pre 안의 공백은 그대로 둔다.
+ * <p>
+ * 그 밖의 태그나 엔티티를 만나거나, 서식 태그가 블록과 엇갈려 닫혀 Jsoup 이 트리를 고쳐 써야 하는 HTML 이면
+ * 읽던 결과를 버리고 JsoupUtil.toPlainText 의 결과를 잘라 반환한다.
+ * <p>
+ * 앞부분만 필요한 미리보기에서 쓴다. maxLength 글자를 채운 뒤에는 글자를 만들지 않고 태그만 훑는데,
+ * 뒤쪽에서 트리를 고쳐 쓰면 Jsoup 이 앞 문단을 옮겨 결과의 앞부분도 달라지기 때문이다.
+ */
+public class HtmlTextExtractor {
+
+    private static final char SPACE = ' ';
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+    private static final int WIN1252_EXTENSIONS_START = 0x80;
+    private static final int[] WIN1252_EXTENSIONS = {
+            0x20AC, 0x0081, 0x201A, 0x0192, 0x201E, 0x2026, 0x2020, 0x2021,
+            0x02C6, 0x2030, 0x0160, 0x2039, 0x0152, 0x008D, 0x017D, 0x008F,
+            0x0090, 0x2018, 0x2019, 0x201C, 0x201D, 0x2022, 0x2013, 0x2014,
+            0x02DC, 0x2122, 0x0161, 0x203A, 0x0153, 0x009D, 0x017E, 0x0178
+    };
+
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "p", "div", "ul", "ol", "li", "blockquote", "pre", "hr", "h1", "h2", "h3", "h4", "h5", "h6"
+    );
+    // 블록 중 Jsoup 이 뒤 형제가 태그여도 공백을 두지 않는 태그
+    private static final Set<String> FORMAT_AS_BLOCK_TAGS = Set.of("div", "ul", "ol", "blockquote", "hr");
+    // 엇갈려 닫히면 Jsoup 이 다시 열어 주는 서식 태그
+    private static final Set<String> FORMATTING_TAGS = Set.of(
+            "a", "b", "code", "em", "i", "s", "small", "strike", "strong", "u"
+    );
+    private static final Set<String> INLINE_TAGS = Set.of("span", "sub", "sup", "mark");
+    private static final Set<String> VOID_TAGS = Set.of("br", "img", "hr");
+    private static final Set<String> HEADING_TAGS = Set.of("h1", "h2", "h3", "h4", "h5", "h6");
+    private static final Set<String> LIST_TAGS = Set.of("ul", "ol");
+    private static final Map<String, Character> NAMED_ENTITIES = Map.of(
+            "amp", '&', "lt", '<', "gt", '>', "quot", '"', "nbsp", '\u00A0'
+    );
+    private static final int PRESERVE_WHITESPACE_SEARCH_DEPTH = 6;
+
+    private final String html;
+    private final int maxLength;
+    private final StringBuilder out;
+    private final StringBuilder pendingWhitespace = new StringBuilder();
+    private final Deque<String> openTags = new ArrayDeque<>();
+    private int pos;
+    private boolean preserveWhitespace;
+    private boolean started;
+    private char lastChar;
+    private boolean blockClosed;
+    private boolean full;
+    private boolean unsupported;
+    private boolean selfClosing;
+
+    private HtmlTextExtractor(
+            final String html,
+            final int maxLength
+    ) {
+        this.html = html;
+        this.maxLength = maxLength;
+        this.out = new StringBuilder(Math.min(maxLength, html.length()));
+    }
+
+    public static String toPlainText(
+            final String html,
+            final int maxLength
+    ) {
+        if (maxLength <= 0) {
+            return "";
+        }
+        HtmlTextExtractor extractor = new HtmlTextExtractor(html, maxLength);
+        extractor.run();
+        if (extractor.unsupported) {
+            String text = JsoupUtil.toPlainText(html);
+            return text.length() <= maxLength ? text : text.substring(0, maxLength);
+        }
+        return extractor.out.toString();
+    }
+
+    private void run() {
+        final int length = html.length();
+        while (pos < length && !unsupported) {
+            char c = html.charAt(pos);
+            if (c == '<') {
+                readMarkup();
+            } else if (full) {
+                int next = html.indexOf('<', pos);
+                pos = next < 0 ? length : next;
+            } else if (c == '\0') {
+                unsupported = true;
+            } else {
+                beforeText();
+                if (c == '&') {
+                    readCharacterReference();
+                } else {
+                    pos++;
+                    appendText(c);
+                }
+            }
+        }
+    }
+
+    /*
+    '<' 다음 글자로 시작 태그, 끝 태그, 주석을 구분하고, 어느 것도 아니면 '<' 를 글자로 본다.
+     */
+    private void readMarkup() {
+        if (pos + 1 >= html.length()) {
+            beforeText();
+            pos++;
+            appendText('<');
+            return;
+        }
+        char next = html.charAt(pos + 1);
+        if (isAsciiLetter(next)) {
+            pos++;
+            readStartTag();
+        } else if (next == '/') {
+            readEndTag();
+        } else if (html.startsWith("<!--", pos)) {
+            readComment();
+        } else if (next == '!' || next == '?') {
+            unsupported = true;
+        } else {
+            beforeText();
+            pos++;
+            appendText('<');
+        }
+    }
+
+    private void readStartTag() {
+        String name = readTagName();
+        if (!isSupported(name)) {
+            unsupported = true;
+            return;
+        }
+        if (!skipAttributes()) {
+            return;
+        }
+        if ("a".equals(name) && openTags.contains("a")) {
+            closeFormatting(name);
+            if (unsupported) {
+                return;
+            }
+        }
+        closeImpliedBy(name);
+        if (unsupported) {
+            return;
+        }
+        if (blockClosed && !FORMAT_AS_BLOCK_TAGS.contains(name)) {
+            appendSpaceIfNeeded();
+        }
+        blockClosed = false;
+        if ((BLOCK_TAGS.contains(name) || "br".equals(name)) && started) {
+            appendSpaceIfNeeded();
+        }
+        if (VOID_TAGS.contains(name)) {
+            closeElement(name, true);
+            return;
+        }
+        openElement(name);
+        // Jsoup 은 '/>' 로 닫은 태그 뒤에 같은 이름의 끝 태그가 온 것처럼 처리한다.
+        if (selfClosing) {
+            processEndTag(name);
+            return;
+        }
+        if ("pre".equals(name) && pos < html.length() && html.charAt(pos) == '\n') {
+            pos++;
+        }
+    }
+
+    private void readEndTag() {
+        pos += 2;
+        final int length = html.length();
+        if (pos >= length) {
+            beforeText();
+            appendText('<');
+            appendText('/');
+            return;
+        }
+        if (html.charAt(pos) == '>') {
+            pos++;
+            return;
+        }
+        if (!isAsciiLetter(html.charAt(pos))) {
+            blockClosed = false;
+            skipPast('>');
+            return;
+        }
+        String name = readTagName();
+        if (!isSupported(name)) {
+            unsupported = true;
+            return;
+        }
+        if (!skipAttributes()) {
+            return;
+        }
+        processEndTag(name);
+    }
+
+    private void processEndTag(final String name) {
+        if ("br".equals(name)) {
+            if (blockClosed) {
+                appendSpaceIfNeeded();
+            }
+            blockClosed = false;
+            if (started) {
+                appendSpaceIfNeeded();
+            }
+            return;
+        }
+        if ("p".equals(name) && !openTags.contains("p")) {
+            // 닫는 p 만 있으면 Jsoup 은 빈 p 를 만들어 넣는다.
+            if (blockClosed || started) {
+                appendSpaceIfNeeded();
+            }
+            closeElement(name, true);
+            return;
+        }
+        if (FORMATTING_TAGS.contains(name)) {
+            closeFormatting(name);
+        } else if (HEADING_TAGS.contains(name)) {
+            closeNearest(HEADING_TAGS, Set.of());
+        } else if ("li".equals(name)) {
+            closeNearest(Set.of(name), LIST_TAGS);
+        } else if (BLOCK_TAGS.contains(name)) {
+            closeNearest(Set.of(name), Set.of());
+        } else {
+            closeNearest(Set.of(name), BLOCK_TAGS);
+        }
+    }
+
+    /*
+    서식 태그 안쪽에 블록이 열려 있으면 Jsoup 은 블록을 옮겨 트리를 다시 짜므로 직접 읽지 않는다.
+     */
+    private void closeFormatting(final String name) {
+        for (String openTag : openTags) {
+            if (openTag.equals(name)) {
+                popUntil(name);
+                return;
+            }
+            if (BLOCK_TAGS.contains(openTag)) {
+                unsupported = true;
+                return;
+            }
+        }
+    }
+
+    /*
+    가장 가까운 names 태그까지 닫고, 그 전에 boundaries 태그를 만나거나 열린 태그가 없으면 끝 태그를 무시한다.
+     */
+    private void closeNearest(
+            final Set<String> names,
+            final Set<String> boundaries
+    ) {
+        for (String openTag : openTags) {
+            if (names.contains(openTag)) {
+                popUntil(openTag);
+                return;
+            }
+            if (boundaries.contains(openTag)) {
+                return;
+            }
+        }
+    }
+
+    private void readComment() {
+        blockClosed = false;
+        int start = pos + 4;
+        if (html.startsWith(">", start)) {
+            pos = start + 1;
+            return;
+        }
+        if (html.startsWith("->", start)) {
+            pos = start + 2;
+            return;
+        }
+        int end = html.indexOf("-->", start);
+        int bangEnd = html.indexOf("--!>", start);
+        if (end < 0 && bangEnd < 0) {
+            pos = html.length();
+        } else if (bangEnd >= 0 && (end < 0 || bangEnd < end)) {
+            pos = bangEnd + 4;
+        } else {
+            pos = end + 3;
+        }
+    }
+
+    private String readTagName() {
+        final int start = pos;
+        final int length = html.length();
+        while (pos < length) {
+            char c = html.charAt(pos);
+            if (isWhitespace(c) || c == '/' || c == '>') {
+                break;
+            }
+            pos++;
+        }
+        return html.substring(start, pos).toLowerCase(Locale.ROOT);
+    }
+
+    /*
+    속성 값 안의 '>' 를 태그의 끝으로 읽지 않도록 따옴표로 감싼 값은 통째로 건너뛰고, '/>' 로 끝나는지 기록한다.
+    태그가 닫히기 전에 본문이 끝나면 Jsoup 처럼 태그를 버린다.
+     */
+    private boolean skipAttributes() {
+        final int length = html.length();
+        boolean afterEquals = false;
+        boolean inUnquotedValue = false;
+        boolean slash = false;
+        while (pos < length) {
+            char c = html.charAt(pos++);
+            if (c == '>') {
+                selfClosing = slash;
+                return true;
+            }
+            slash = c == '/' && !inUnquotedValue;
+            if (isWhitespace(c)) {
+                inUnquotedValue = false;
+                continue;
+            }
+            if (c == '=' && !inUnquotedValue) {
+                afterEquals = true;
+                continue;
+            }
+            if (afterEquals && (c == '"' || c == '\'')) {
+                int end = html.indexOf(c, pos);
+                if (end < 0) {
+                    pos = length;
+                    return false;
+                }
+                pos = end + 1;
+            } else if (afterEquals) {
+                inUnquotedValue = true;
+            }
+            afterEquals = false;
+        }
+        return false;
+    }
+
+    private void skipPast(final char target) {
+        int end = html.indexOf(target, pos);
+        pos = end < 0 ? html.length() : end + 1;
+    }
+
+    /*
+    Jsoup 토크나이저와 같은 규칙으로 숫자 엔티티와 NAMED_ENTITIES 를 읽고, 엔티티가 아니면 '&' 를 글자로 남긴다.
+    그 밖의 이름은 엔티티일 수 있으므로 직접 읽지 않는다.
+     */
+    private void readCharacterReference() {
+        final int length = html.length();
+        final int start = pos;
+        pos++;
+        if (pos >= length || isNotReferenceStart(html.charAt(pos))) {
+            appendText('&');
+            return;
+        }
+        if (html.charAt(pos) == '#') {
+            pos++;
+            boolean hex = pos < length && (html.charAt(pos) == 'x' || html.charAt(pos) == 'X');
+            if (hex) {
+                pos++;
+            }
+            final int digitStart = pos;
+            while (pos < length && (hex ? isAsciiHexDigit(html.charAt(pos)) : isAsciiDigit(html.charAt(pos)))) {
+                pos++;
+            }
+            if (pos == digitStart) {
+                pos = start + 1;
+                appendText('&');
+                return;
+            }
+            int codePoint = parseCodePoint(html.substring(digitStart, pos), hex ? 16 : 10);
+            if (pos < length && html.charAt(pos) == ';') {
+                pos++;
+            }
+            appendCodePoint(codePoint);
+            return;
+        }
+        final int nameStart = pos;
+        while (pos < length && isLetter(html.charAt(pos))) {
+            pos++;
+        }
+        while (pos < length && isAsciiDigit(html.charAt(pos))) {
+            pos++;
+        }
+        if (pos == nameStart) {
+            appendText('&');
+            return;
+        }
+        Character value = NAMED_ENTITIES.get(html.substring(nameStart, pos));
+        if (value == null) {
+            unsupported = true;
+            return;
+        }
+        if (pos < length && html.charAt(pos) == ';') {
+            pos++;
+        }
+        appendText(value);
+    }
+
+    private int parseCodePoint(
+            final String digits,
+            final int radix
+    ) {
+        int codePoint;
+        try {
+            codePoint = Integer.parseInt(digits, radix);
+        } catch (NumberFormatException e) {
+            return REPLACEMENT_CHAR;
+        }
+        if ((codePoint >= 0xD800 && codePoint <= 0xDFFF) || codePoint > 0x10FFFF) {
+            return REPLACEMENT_CHAR;
+        }
+        if (codePoint >= WIN1252_EXTENSIONS_START && codePoint < WIN1252_EXTENSIONS_START + WIN1252_EXTENSIONS.length) {
+            return WIN1252_EXTENSIONS[codePoint - WIN1252_EXTENSIONS_START];
+        }
+        return codePoint;
+    }
+
+    private void appendCodePoint(final int codePoint) {
+        if (Character.isBmpCodePoint(codePoint)) {
+            appendText((char) codePoint);
+            return;
+        }
+        appendText(Character.highSurrogate(codePoint));
+        if (!full) {
+            appendText(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    private void beforeText() {
+        if (blockClosed) {
+            appendSpaceIfNeeded();
+            blockClosed = false;
+        }
+    }
+
+    /*
+    pre 안에서는 글자를 그대로 두고, 그 밖에서는 공백 문자를 하나로 합치며 보이지 않는 글자는 버린다.
+     */
+    private void appendText(final char c) {
+        if (preserveWhitespace) {
+            append(c);
+            return;
+        }
+        if (isActuallyWhitespace(c)) {
+            appendSpaceIfNeeded();
+        } else if (c != '\u200B' && c != '\u00AD') {
+            append(c);
+        }
+    }
+
+    private void appendSpaceIfNeeded() {
+        if (lastChar != SPACE || !started) {
+            append(SPACE);
+        }
+    }
+
+    /*
+    Jsoup 결과의 trim 과 맞추기 위해 앞쪽 공백은 버리고, 뒤쪽 공백은 다음 글자가 나올 때까지 미뤄 둔다.
+     */
+    private void append(final char c) {
+        if (full) {
+            return;
+        }
+        started = true;
+        lastChar = c;
+        if (c <= SPACE) {
+            if (out.length() > 0) {
+                pendingWhitespace.append(c);
+            }
+            return;
+        }
+        for (int i = 0; i < pendingWhitespace.length(); i++) {
+            if (out.length() >= maxLength) {
+                full = true;
+                return;
+            }
+            out.append(pendingWhitespace.charAt(i));
+        }
+        pendingWhitespace.setLength(0);
+        if (out.length() >= maxLength) {
+            full = true;
+            return;
+        }
+        out.append(c);
+        if (out.length() >= maxLength) {
+            full = true;
+        }
+    }
+
+    private void openElement(final String name) {
+        openTags.push(name);
+        updatePreserveWhitespace();
+    }
+
+    /*
+    함께 닫히는 서식 태그는 Jsoup 이 뒤에서 다시 열어 주므로, 그런 태그를 만나면 직접 읽지 않는다.
+     */
+    private void popUntil(final String name) {
+        while (!openTags.isEmpty()) {
+            String top = openTags.peek();
+            boolean last = top.equals(name);
+            if (!last && FORMATTING_TAGS.contains(top)) {
+                unsupported = true;
+                return;
+            }
+            openTags.pop();
+            updatePreserveWhitespace();
+            closeElement(top, last);
+            if (last) {
+                return;
+            }
+        }
+    }
+
+    /*
+    Jsoup 은 p 뒤에 공백 노드를 넣고, 다른 블록은 바로 뒤 형제가 글자나 인라인 태그일 때만 공백을 둔다.
+    함께 닫히는 안쪽 태그는 뒤 형제가 없으므로 p 가 아니면 공백을 두지 않는다.
+    pre 안에서는 p 뒤에 넣은 공백 노드도 합쳐지지 않고 그대로 남는다.
+     */
+    private void closeElement(
+            final String name,
+            final boolean hasNextSibling
+    ) {
+        if ("p".equals(name)) {
+            appendSpaceIfNeeded();
+            if (preserveWhitespace) {
+                append(SPACE);
+            }
+            blockClosed = false;
+            return;
+        }
+        blockClosed = hasNextSibling && BLOCK_TAGS.contains(name);
+    }
+
+    /*
+    Jsoup 처럼 가까운 조상 PRESERVE_WHITESPACE_SEARCH_DEPTH 개 안에 pre 가 있을 때만 공백을 그대로 둔다.
+     */
+    private void updatePreserveWhitespace() {
+        int depth = 0;
+        for (String openTag : openTags) {
+            if (depth++ >= PRESERVE_WHITESPACE_SEARCH_DEPTH) {
+                break;
+            }
+            if ("pre".equals(openTag)) {
+                preserveWhitespace = true;
+                return;
+            }
+        }
+        preserveWhitespace = false;
+    }
+
+    /*
+    li 는 같은 목록 안의 열린 li 를 닫고, 블록 태그는 열린 p 를 닫으며, 제목 안에서 연 제목은 앞 제목을 닫는다.
+     */
+    private void closeImpliedBy(final String name) {
+        if ("li".equals(name)) {
+            for (String openTag : openTags) {
+                if ("li".equals(openTag)) {
+                    popUntil(openTag);
+                    break;
+                }
+                if (BLOCK_TAGS.contains(openTag) && !"div".equals(openTag) && !"p".equals(openTag)) {
+                    break;
+                }
+            }
+        }
+        if (unsupported) {
+            return;
+        }
+        if (BLOCK_TAGS.contains(name) && openTags.contains("p")) {
+            popUntil("p");
+        }
+        if (HEADING_TAGS.contains(name) && !openTags.isEmpty() && HEADING_TAGS.contains(openTags.peek())) {
+            popUntil(openTags.peek());
+        }
+    }
+
+    private static boolean isSupported(final String name) {
+        return BLOCK_TAGS.contains(name) || FORMATTING_TAGS.contains(name) || INLINE_TAGS.contains(name)
+                || VOID_TAGS.contains(name);
+    }
+
+    private static boolean isNotReferenceStart(final char c) {
+        return c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == ' ' || c == '<' || c == '&';
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    private static boolean isActuallyWhitespace(final char c) {
+        return isWhitespace(c) || c == '\u00A0';
+    }
+
+    private static boolean isAsciiLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLetter(final char c) {
+        return isAsciiLetter(c) || Character.isLetter(c);
+    }
+
+    private static boolean isAsciiDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiHexDigit(final char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
@@ -5,11 +5,15 @@ import com.mile.exception.model.BadRequestException;
 import com.mile.exception.model.NotFoundException;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Base64;
 
 @Component
 public class SecureUrlUtil {
 
+    private static final String CURSOR_DELIMITER = "_";
+
     public String encodeUrl(final Long id) {
         return Base64.getUrlEncoder().encodeToString(id.toString().getBytes());
     }
@@ -26,4 +30,33 @@ public class SecureUrlUtil {
         return url == null ? null : decodeUrl(url);
     }
 
+    /*
+    (생성 시각, ID) 키셋 커서를 URL 과 같은 방식으로 인코딩해 클라이언트에는 불투명한 문자열로 전달한다.
+     */
+    public String encodeCursor(
+            final LocalDateTime createdAt,
+            final Long id
+    ) {
+        return Base64.getUrlEncoder().encodeToString((createdAt + CURSOR_DELIMITER + id).getBytes());
+    }
+
+    public TimeCursor decodeCursor(final String cursor) {
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor)).split(CURSOR_DELIMITER);
+            if (values.length != 2) {
+                throw new BadRequestException(ErrorMessage.INVALID_CURSOR_EXCEPTION);
+            }
+            return TimeCursor.of(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorMessage.INVALID_CURSOR_EXCEPTION);
+        }
+    }
+
+    public Long decodeIdCursor(final String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorMessage.INVALID_CURSOR_EXCEPTION);
+        }
+    }
 }
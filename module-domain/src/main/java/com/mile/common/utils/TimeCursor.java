@@ -0,0 +1,15 @@
+package com.mile.common.utils;
+
+import java.time.LocalDateTime;
+
+public record TimeCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    public static TimeCursor of(
+            final LocalDateTime createdAt,
+            final Long id
+    ) {
+        return new TimeCursor(createdAt, id);
+    }
+}
@@ -14,12 +14,51 @@ import java.util.List;
 public interface CuriousRepository extends JpaRepository<Curious, Long>, CuriousRepositoryCustom {
     boolean existsByPostAndWriterName(final Post post, final WriterName writerName);
 
-    Curious findByPostAndWriterName(final Post post, final WriterName writerName);
-
     @Transactional
     @Modifying
     @Query("delete from Curious c where c.post = :post")
-    void deleteAllByPost(@Param("post") final Post post);
+    int deleteAllByPost(@Param("post") final Post post);
 
     List<Curious> findAllByWriterName(final WriterName writerName);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO curious (post_id, writer_name_id, created_at) VALUES (:postId, :writerNameId, NOW())", nativeQuery = true)
+    int insertIgnore(@Param("postId") final Long postId, @Param("writerNameId") final Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Curious c where c.post = :post and c.writerName = :writerName")
+    int deleteByPostAndWriterName(@Param("post") final Post post, @Param("writerName") final WriterName writerName);
+
+    /*
+    이름과 관계 없이 (post_id, writer_name_id) 두 컬럼으로만 이루어진 유니크 인덱스의 수를 센다.
+     */
+    @Query(value = """
+        SELECT COUNT(*)
+        FROM (
+            SELECT s.index_name
+            FROM information_schema.statistics s
+            WHERE s.table_schema = DATABASE() AND s.table_name = 'curious' AND s.non_unique = 0
+            GROUP BY s.index_name
+            HAVING COUNT(*) = 2 AND SUM(s.column_name IN ('post_id', 'writer_name_id')) = 2
+        ) AS unique_keys
+    """, nativeQuery = true)
+    int countUniqueKey();
+
+    /*
+    같은 글에 같은 필명으로 남은 궁금해요 중 가장 먼저 만들어진 행만 남긴다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        DELETE c1 FROM curious c1
+        JOIN curious c2 ON c1.post_id = c2.post_id AND c1.writer_name_id = c2.writer_name_id AND c1.id > c2.id
+    """, nativeQuery = true)
+    int deleteDuplicates();
+
+    @Transactional
+    @Modifying
+    @Query(value = "ALTER TABLE curious ADD CONSTRAINT uk_curious_post_writer_name UNIQUE (post_id, writer_name_id)", nativeQuery = true)
+    void addUniqueKey();
 }
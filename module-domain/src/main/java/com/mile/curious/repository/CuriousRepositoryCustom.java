@@ -1,6 +1,7 @@
 package com.mile.curious.repository;
 
 import com.mile.curious.repository.dto.PostAndCuriousCountInLastWeek;
+import com.mile.curious.repository.dto.PostCuriousHistory;
 import com.mile.moim.domain.Moim;
 import com.mile.post.domain.Post;
 
@@ -10,4 +11,6 @@ import java.util.List;
 public interface CuriousRepositoryCustom {
     List<PostAndCuriousCountInLastWeek> findMostCuriousPostBeforeOneWeek(final Moim moim, final LocalDateTime now);
     List<Post> findPostByLatestCurious(final Moim moim, final int requestSize, final List<Post> posts);
+    List<Long> findPostIdsByLatestCurious(final Moim moim, final int requestSize, final List<Long> excludedPostIds);
+    List<PostCuriousHistory> findCuriousHistoriesOfMoim(final Moim moim, final LocalDateTime from);
 }
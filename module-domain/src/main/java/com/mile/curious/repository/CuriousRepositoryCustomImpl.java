@@ -1,6 +1,7 @@
 package com.mile.curious.repository;
 
 import com.mile.curious.repository.dto.PostAndCuriousCountInLastWeek;
+import com.mile.curious.repository.dto.PostCuriousHistory;
 import com.mile.moim.domain.Moim;
 import com.mile.post.domain.Post;
 import com.querydsl.core.types.Projections;
@@ -26,8 +27,8 @@ public class CuriousRepositoryCustomImpl implements CuriousRepositoryCustom {
         return queryFactory.select(Projections.constructor(PostAndCuriousCountInLastWeek.class, post, curious.count().as("count")))
                 .from(curious)
                 .join(curious.post, post)
-                .join(topic).on(post.topic.id.eq(topic.id))
-                .join(moim).on(topic.moim.id.eq(moim.id))
+                .join(post.topic, topic).fetchJoin()
+                .join(topic.moim, moim)
                 .join(post.writerName).fetchJoin()
                 .where(moim.id.eq(targetMoim.getId()))
                 .where(curious.createdAt.between(now.minusDays(WEEK), now))
@@ -40,8 +41,8 @@ public class CuriousRepositoryCustomImpl implements CuriousRepositoryCustom {
         return queryFactory.select(post)
                 .from(curious)
                 .join(curious.post, post)
-                .join(topic).on(post.topic.id.eq(topic.id))
-                .join(moim).on(topic.moim.id.eq(moim.id))
+                .join(post.topic, topic).fetchJoin()
+                .join(topic.moim, moim)
                 .join(post.writerName).fetchJoin()
                 .where(moim.id.eq(targetMoim.getId()))
                 .where(post.notIn(posts))
@@ -49,4 +50,28 @@ public class CuriousRepositoryCustomImpl implements CuriousRepositoryCustom {
                 .limit(requestSize)
                 .fetch();
     }
+
+    @Override
+    public List<Long> findPostIdsByLatestCurious(final Moim targetMoim, final int requestSize, final List<Long> excludedPostIds) {
+        return queryFactory.select(post.id)
+                .from(curious)
+                .join(curious.post, post)
+                .join(post.topic, topic)
+                .where(topic.moim.id.eq(targetMoim.getId()))
+                .where(excludedPostIds.isEmpty() ? null : post.id.notIn(excludedPostIds))
+                .orderBy(curious.createdAt.desc())
+                .limit(requestSize)
+                .fetch();
+    }
+
+    @Override
+    public List<PostCuriousHistory> findCuriousHistoriesOfMoim(final Moim targetMoim, final LocalDateTime from) {
+        return queryFactory.select(Projections.constructor(PostCuriousHistory.class, post.id, post.writerName.id, curious.createdAt))
+                .from(curious)
+                .join(curious.post, post)
+                .join(topic).on(post.topic.id.eq(topic.id))
+                .where(topic.moim.id.eq(targetMoim.getId()))
+                .where(curious.createdAt.goe(from))
+                .fetch();
+    }
 }
@@ -0,0 +1,10 @@
+package com.mile.curious.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record PostCuriousHistory(
+        Long postId,
+        Long writerNameId,
+        LocalDateTime createdAt
+) {
+}
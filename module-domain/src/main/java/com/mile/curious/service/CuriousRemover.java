@@ -3,39 +3,50 @@ package com.mile.curious.service;
 
 import com.mile.curious.domain.Curious;
 import com.mile.curious.repository.CuriousRepository;
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.NotFoundException;
 import com.mile.post.domain.Post;
+import com.mile.post.service.PostUpdator;
 import com.mile.writername.domain.WriterName;
+import com.mile.writername.service.WriterNameUpdator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class CuriousRemover {
+    private static final int NOT_DELETED = 0;
+
     private final CuriousRepository curiousRepository;
     private final CuriousRetriever curiousRetriever;
+    private final PostUpdator postUpdator;
+    private final WriterNameUpdator writerNameUpdator;
 
     public void deleteAllByWriterName(
             final WriterName writerName
     ) {
 
         List<Curious> curiousList = curiousRetriever.findAllByWriterName(writerName);
-
-        curiousList.forEach(curious -> {
-            Post post = curious.getPost();
-            post.decreaseCuriousCount();
-            writerName.decreaseTotalCuriousCount();
-        });
+        List<Post> posts = curiousList.stream().map(Curious::getPost).toList();
+        Map<Long, Integer> curiousCountByAuthorId = posts.stream()
+                .collect(Collectors.groupingBy(post -> post.getWriterName().getId(), Collectors.summingInt(post -> 1)));
 
         curiousRepository.deleteAll(curiousList);
+
+        // 메모리의 엔티티 값을 바꾸지 않고 UPDATE 로 차감해 그 사이 반영된 궁금해요 수를 덮어쓰지 않는다.
+        posts.forEach(postUpdator::decreaseCuriousCount);
+        curiousCountByAuthorId.forEach(writerNameUpdator::decreaseTotalCuriousCount);
     }
 
-    public void deleteAllByPost(
+    public int deleteAllByPost(
             final Post post
     ) {
-        curiousRepository.deleteAllByPost(post);
+        return curiousRepository.deleteAllByPost(post);
     }
 
     public void deleteAllByPosts(
@@ -45,6 +56,8 @@ public class CuriousRemover {
     }
 
     public void deleteCurious(final Post post, final WriterName writerName) {
-        curiousRepository.delete(curiousRepository.findByPostAndWriterName(post, writerName));
+        if (curiousRepository.deleteByPostAndWriterName(post, writerName) == NOT_DELETED) {
+            throw new NotFoundException(ErrorMessage.CURIOUS_NOT_FOUND);
+        }
     }
 }
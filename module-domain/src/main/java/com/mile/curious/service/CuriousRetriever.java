@@ -3,9 +3,6 @@ package com.mile.curious.service;
 import com.mile.curious.domain.Curious;
 import com.mile.curious.repository.CuriousRepository;
 import com.mile.curious.repository.dto.PostAndCuriousCountInLastWeek;
-import com.mile.exception.message.ErrorMessage;
-import com.mile.exception.model.ConflictException;
-import com.mile.exception.model.NotFoundException;
 import com.mile.moim.domain.Moim;
 import com.mile.post.domain.Post;
 import com.mile.writername.domain.WriterName;
@@ -28,22 +25,18 @@ public class CuriousRetriever {
         return curiousRepository.findAllByWriterName(writerName);
     }
 
-    public void checkCuriousExists(final Post post, final WriterName writerName) {
-        if (curiousRepository.existsByPostAndWriterName(post, writerName)) {
-            throw new ConflictException(ErrorMessage.CURIOUS_ALREADY_EXISTS_EXCEPTION);
-        }
-    }
-
-    public void checkCuriousNotExists(final Post post, final WriterName writerName) {
-        if (!curiousRepository.existsByPostAndWriterName(post, writerName)) {
-            throw new NotFoundException(ErrorMessage.CURIOUS_NOT_FOUND);
-        }
-    }
-
     public boolean findCuriousExists(final Post post, final WriterName writerName) {
         return curiousRepository.existsByPostAndWriterName(post, writerName);
     }
 
+    public List<Long> findPostIdsByLatestCurious(
+            final Moim moim,
+            final int requestSize,
+            final List<Long> excludedPostIds
+    ) {
+        return curiousRepository.findPostIdsByLatestCurious(moim, requestSize, excludedPostIds);
+    }
+
     public List<PostAndCuriousCountInLastWeek> findMostCuriousPostsInLastWeek(final Moim moim) {
         List<PostAndCuriousCountInLastWeek> mostCuriousPostsInLastWeek = curiousRepository.findMostCuriousPostBeforeOneWeek(moim, LocalDateTime.now()).stream()
                 .filter(p -> p.getCount() > 0)
@@ -1,12 +1,19 @@
 package com.mile.curious.service;
 
 import com.mile.curious.service.dto.CuriousInfoResponse;
+import com.mile.moim.service.activity.MoimDailyActivityUpdator;
+import com.mile.moim.service.popular.MoimPopularInfoRefresher;
+import com.mile.moim.service.popular.MoimPopularRanking;
 import com.mile.post.domain.Post;
+import com.mile.post.service.PostUpdator;
 import com.mile.writername.domain.WriterName;
 import com.mile.writername.service.WriterNameUpdator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -17,19 +24,50 @@ public class CuriousService {
     private final CuriousRemover curiousRemover;
     private final CuriousRetriever curiousRetriever;
     private final CuriousCreator curiousCreator;
+    private final PostUpdator postUpdator;
+    private final MoimPopularRanking moimPopularRanking;
+    private final MoimPopularInfoRefresher moimPopularInfoRefresher;
+    private final MoimDailyActivityUpdator moimDailyActivityUpdator;
 
     public void deleteCurious(final Post post, final WriterName writerName) {
-        curiousRetriever.checkCuriousNotExists(post, writerName);
         curiousRemover.deleteCurious(post, writerName);
-        post.decreaseCuriousCount();
+        postUpdator.decreaseCuriousCount(post);
         writerNameUpdator.decreaseTotalCuriousCountByWriterName(post.getWriterName());
+        final Long moimId = post.getTopic().getMoim().getId();
+        // 취소된 궁금해요의 날짜를 읽지 않으므로 일별 활동 집계는 매일 새벽 재집계로 맞춘다.
+        runAfterCommit(() -> {
+            moimPopularRanking.decrease(moimId, post.getId(), post.getWriterName().getId());
+            moimPopularInfoRefresher.scheduleRefresh(moimId);
+        });
     }
 
     public void createCurious(final Post post, final WriterName writerName) {
-        curiousRetriever.checkCuriousExists(post, writerName);
         curiousCreator.createCurious(post, writerName);
-        post.increaseCuriousCount();
+        postUpdator.increaseCuriousCount(post);
         writerNameUpdator.increaseTotalCuriousCountByWriterName(post.getWriterName());
+        final Long moimId = post.getTopic().getMoim().getId();
+        moimDailyActivityUpdator.increaseCuriousCount(moimId);
+        final LocalDate today = LocalDate.now();
+        runAfterCommit(() -> {
+            moimPopularRanking.increase(moimId, post.getId(), post.getWriterName().getId(), today);
+            moimPopularInfoRefresher.scheduleRefresh(moimId);
+        });
+    }
+
+    /*
+    Redis 순위와 인기 글 갱신 예약은 롤백되지 않으므로, 트랜잭션이 커밋된 뒤에 반영한다.
+     */
+    private void runAfterCommit(final Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 
 
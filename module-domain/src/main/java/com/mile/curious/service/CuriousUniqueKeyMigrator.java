@@ -0,0 +1,57 @@
+package com.mile.curious.service;
+
+import com.mile.common.batch.IdRangeBatchRunner;
+import com.mile.curious.repository.CuriousRepository;
+import com.mile.post.repository.PostRepository;
+import com.mile.writername.repository.WriterNameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * curious 테이블에 (post_id, writer_name_id) 유니크 키가 없으면 중복 행을 지우고 키를 만든다.
+ * <p>
+ * 궁금해요 생성은 INSERT IGNORE 가 이 키에 걸리는 것으로 중복을 막으므로, 키가 생기기 전의 중복 행을 먼저 정리해야 한다.
+ * 중복 행을 지웠다면 글의 궁금해요 수와 필명의 받은 궁금해요 수도 실제 행 수로 다시 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CuriousUniqueKeyMigrator {
+
+    private static final String JOB_NAME = "궁금해요 유니크 키 생성";
+    private static final Duration MIGRATE_LEASE = Duration.ofMinutes(30);
+    private static final String MIGRATE_LOCK = "CURIOUS_UNIQUE_KEY_MIGRATE_LOCK";
+
+    private final CuriousRepository curiousRepository;
+    private final PostRepository postRepository;
+    private final WriterNameRepository writerNameRepository;
+    private final IdRangeBatchRunner idRangeBatchRunner;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateIfAbsent() {
+        if (curiousRepository.countUniqueKey() > 0 || !idRangeBatchRunner.tryAcquireLease(JOB_NAME, MIGRATE_LOCK, MIGRATE_LEASE)) {
+            return;
+        }
+        try {
+            if (curiousRepository.countUniqueKey() > 0) {
+                return;
+            }
+            final int deletedCount = curiousRepository.deleteDuplicates();
+            curiousRepository.addUniqueKey();
+            log.info("{} 완료 : 중복 궁금해요 {}건 삭제", JOB_NAME, deletedCount);
+            if (deletedCount > 0) {
+                idRangeBatchRunner.run("글 궁금해요 수 보정", postRepository.findMaxId(), postRepository::recountCuriousCountBetween);
+                idRangeBatchRunner.run("필명 궁금해요 수 보정", writerNameRepository.findMaxId(), writerNameRepository::recountTotalCuriousCountBetween);
+            }
+        } catch (RuntimeException e) {
+            log.error("{} 중 에러 발생 -> {}", JOB_NAME, e.getMessage());
+        } finally {
+            idRangeBatchRunner.releaseLease(JOB_NAME, MIGRATE_LOCK);
+        }
+    }
+}
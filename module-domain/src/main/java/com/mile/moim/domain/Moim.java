@@ -20,10 +20,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@DynamicUpdate
 @Table(name = "moim", uniqueConstraints = @UniqueConstraint(columnNames = "normalized_name"))
 public class Moim extends BaseTimeEntity {
     @Id
@@ -40,6 +42,7 @@ public class Moim extends BaseTimeEntity {
     @Setter
     private String idUrl;
     private boolean isPublic;
+    private int writerNameCount;
 
     @PrePersist
     @PreUpdate
@@ -0,0 +1,36 @@
+package com.mile.moim.domain.activity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "moim_daily_activity", uniqueConstraints = @UniqueConstraint(columnNames = {"moim_id", "activity_date"}))
+public class MoimDailyActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "moim_id")
+    private Long moimId;
+
+    @Column(nullable = false, name = "activity_date")
+    private LocalDate activityDate;
+
+    private int postCount;
+    private int curiousCount;
+    private int commentCount;
+    private int replyCount;
+}
@@ -1,7 +1,6 @@
 package com.mile.moim.domain.popular;
 
-import com.mile.post.domain.Post;
-import jakarta.persistence.Embeddable;
+import com.mile.post.domain.PostCard;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,11 +8,11 @@ import lombok.NoArgsConstructor;
 
 import java.util.Objects;
 
-@Embeddable
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class MoimCuriousPost {
+
     private Long postId;
     private String title;
     private String idUrl;
@@ -22,15 +21,18 @@ public class MoimCuriousPost {
     private String topic;
     private boolean isContainPhoto;
 
-    public static MoimCuriousPost of(final Post post) {
+    /*
+    본문 전체 대신 글 카드의 요약만 보관한다.
+     */
+    public static MoimCuriousPost of(final PostCard postCard) {
         return new MoimCuriousPost(
-                post.getId(),
-                post.getTitle(),
-                post.getIdUrl(),
-                post.getContent(),
-                post.getImageUrl(),
-                post.getTopic().getContent(),
-                post.isContainPhoto()
+                postCard.getPostId(),
+                postCard.getTitle(),
+                postCard.getIdUrl(),
+                postCard.getExcerpt(),
+                postCard.getImageUrl(),
+                postCard.getTopicName(),
+                postCard.isContainPhoto()
         );
     }
 
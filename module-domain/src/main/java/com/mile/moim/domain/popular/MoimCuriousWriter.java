@@ -1,14 +1,12 @@
 package com.mile.moim.domain.popular;
 
 import com.mile.writername.domain.WriterName;
-import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.Objects;
 
-@Embeddable
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MoimCuriousWriter {
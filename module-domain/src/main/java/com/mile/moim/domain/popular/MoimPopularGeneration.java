@@ -0,0 +1,36 @@
+package com.mile.moim.domain.popular;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+현재 조회 대상인 인기 글/인기 작가 스냅샷 세대를 가리키는 단일 행
+다시 계산 중인 다음 세대와 그 마감 시각도 함께 두어, 계산을 시작한 노드가 죽어도 다른 노드가 세대 전환을 마칠 수 있게 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MoimPopularGeneration {
+
+    public static final Long POINTER_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long generation;
+
+    private Long pendingGeneration;
+
+    private LocalDateTime pendingDeadline;
+
+    public boolean isPendingExpired(final LocalDateTime now) {
+        return pendingGeneration != null && pendingDeadline != null && pendingDeadline.isBefore(now);
+    }
+}
@@ -2,21 +2,31 @@ package com.mile.moim.domain.popular;
 
 import com.mile.common.config.BaseTimeEntity;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.Set;
+import java.util.List;
 
+/**
+ * 글모임 별 인기 글/인기 작가 스냅샷
+ * <p>
+ * 세대(generation) 별로 한 행씩 저장하며, MoimPopularGeneration 이 가리키는 세대의 행만 조회된다.
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "moim_popular_snapshot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"moim_id", "generation"})
+)
 public class MoimPopularInfo extends BaseTimeEntity {
 
     @Id
@@ -26,19 +36,33 @@ public class MoimPopularInfo extends BaseTimeEntity {
     @Column(nullable = false, name = "moim_id")
     private Long moimId;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private Set<MoimCuriousPost> posts;
+    @Column(nullable = false)
+    private Long generation;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private Set<MoimCuriousWriter> writers;
+    @Convert(converter = MoimPopularPayloadConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private MoimPopularPayload payload;
 
-    private MoimPopularInfo(final Long moimId, final Set<MoimCuriousPost> posts, final Set<MoimCuriousWriter> writers) {
+    private MoimPopularInfo(final Long moimId, final Long generation, final MoimPopularPayload payload) {
         this.moimId = moimId;
-        this.posts = posts;
-        this.writers = writers;
+        this.generation = generation;
+        this.payload = payload;
     }
 
-    public static MoimPopularInfo of(final Long moimId, final Set<MoimCuriousPost> posts, final Set<MoimCuriousWriter> writers) {
-        return new MoimPopularInfo(moimId, posts, writers);
+    public List<MoimCuriousPost> getPosts() {
+        return payload.getPosts();
+    }
+
+    public List<MoimCuriousWriter> getWriters() {
+        return payload.getWriters();
+    }
+
+    public static MoimPopularInfo of(
+            final Long moimId,
+            final Long generation,
+            final List<MoimCuriousPost> posts,
+            final List<MoimCuriousWriter> writers
+    ) {
+        return new MoimPopularInfo(moimId, generation, MoimPopularPayload.of(posts, writers));
     }
 }
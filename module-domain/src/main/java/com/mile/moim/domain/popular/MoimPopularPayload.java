@@ -0,0 +1,26 @@
+package com.mile.moim.domain.popular;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MoimPopularPayload {
+
+    private List<MoimCuriousPost> posts;
+    private List<MoimCuriousWriter> writers;
+
+    private MoimPopularPayload(final List<MoimCuriousPost> posts, final List<MoimCuriousWriter> writers) {
+        this.posts = posts;
+        this.writers = writers;
+    }
+
+    public static MoimPopularPayload of(final List<MoimCuriousPost> posts, final List<MoimCuriousWriter> writers) {
+        // L2 캐시(Kryo)와 JSON 역직렬화가 모두 가능하도록 일반 리스트로 복사한다.
+        return new MoimPopularPayload(new ArrayList<>(posts), new ArrayList<>(writers));
+    }
+}
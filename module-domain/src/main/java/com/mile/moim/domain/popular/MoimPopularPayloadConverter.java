@@ -0,0 +1,41 @@
+package com.mile.moim.domain.popular;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.MileException;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+인기 글/인기 작가 스냅샷을 필드 기준 JSON 한 컬럼으로 저장한다.
+ */
+@Converter
+public class MoimPopularPayloadConverter implements AttributeConverter<MoimPopularPayload, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public String convertToDatabaseColumn(final MoimPopularPayload payload) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new MileException(ErrorMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public MoimPopularPayload convertToEntityAttribute(final String payload) {
+        try {
+            return OBJECT_MAPPER.readValue(payload, MoimPopularPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new MileException(ErrorMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.mile.moim.repository;
+
+import com.mile.moim.domain.activity.MoimDailyActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MoimDailyActivityRepository extends JpaRepository<MoimDailyActivity, Long> {
+
+    @Query("""
+        SELECT a.moimId
+        FROM MoimDailyActivity a, Moim m
+        WHERE m.id = a.moimId
+        AND m.isPublic = true
+        AND a.activityDate >= :from
+        GROUP BY a.moimId
+        HAVING SUM(a.postCount) > 0
+        ORDER BY SUM(a.postCount) DESC
+    """)
+    List<Long> findMostPostedPublicMoimIds(final Pageable pageable, @Param("from") final LocalDate from);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO moim_daily_activity (moim_id, activity_date, post_count, curious_count, comment_count, reply_count)
+        VALUES (:moimId, :activityDate, 1, 0, 0, 0)
+        ON DUPLICATE KEY UPDATE post_count = post_count + 1
+    """, nativeQuery = true)
+    void increasePostCount(@Param("moimId") final Long moimId, @Param("activityDate") final LocalDate activityDate);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO moim_daily_activity (moim_id, activity_date, post_count, curious_count, comment_count, reply_count)
+        VALUES (:moimId, :activityDate, 0, 1, 0, 0)
+        ON DUPLICATE KEY UPDATE curious_count = curious_count + 1
+    """, nativeQuery = true)
+    void increaseCuriousCount(@Param("moimId") final Long moimId, @Param("activityDate") final LocalDate activityDate);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO moim_daily_activity (moim_id, activity_date, post_count, curious_count, comment_count, reply_count)
+        VALUES (:moimId, :activityDate, 0, 0, 1, 0)
+        ON DUPLICATE KEY UPDATE comment_count = comment_count + 1
+    """, nativeQuery = true)
+    void increaseCommentCount(@Param("moimId") final Long moimId, @Param("activityDate") final LocalDate activityDate);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO moim_daily_activity (moim_id, activity_date, post_count, curious_count, comment_count, reply_count)
+        VALUES (:moimId, :activityDate, 0, 0, 0, 1)
+        ON DUPLICATE KEY UPDATE reply_count = reply_count + 1
+    """, nativeQuery = true)
+    void increaseReplyCount(@Param("moimId") final Long moimId, @Param("activityDate") final LocalDate activityDate);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MoimDailyActivity a SET a.postCount = a.postCount - 1 WHERE a.moimId = :moimId AND a.activityDate = :activityDate AND a.postCount > 0")
+    void decreasePostCount(@Param("moimId") final Long moimId, @Param("activityDate") final LocalDate activityDate);
+
+    /*
+    대댓글은 작성 시각을 저장하지 않으므로 재집계 대상에서 제외하고 실시간 누적 값을 유지한다.
+     */
+    @Modifying
+    @Query("UPDATE MoimDailyActivity a SET a.postCount = 0, a.curiousCount = 0, a.commentCount = 0 WHERE a.activityDate >= :from")
+    void resetCountsFrom(@Param("from") final LocalDate from);
+
+    /*
+    deprecated 된 VALUES() 대신 집계 결과를 파생 테이블(new)로 감싸 그 컬럼을 참조한다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO moim_daily_activity (moim_id, activity_date, post_count, curious_count, comment_count, reply_count)
+        SELECT * FROM (
+            SELECT t.moim_id, DATE(p.created_at) AS activity_date, COUNT(*) AS post_count, 0 AS curious_count, 0 AS comment_count, 0 AS reply_count
+            FROM post p JOIN topic t ON p.topic_id = t.id
+            WHERE p.is_temporary = false AND p.created_at >= :from
+            GROUP BY t.moim_id, DATE(p.created_at)
+        ) AS new
+        ON DUPLICATE KEY UPDATE post_count = new.post_count
+    """, nativeQuery = true)
+    void backfillPostCounts(@Param("from") final LocalDateTime from);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO moim_daily_activity (moim_id, activity_date, post_count, curious_count, comment_count, reply_count)
+        SELECT * FROM (
+            SELECT t.moim_id, DATE(c.created_at) AS activity_date, 0 AS post_count, COUNT(*) AS curious_count, 0 AS comment_count, 0 AS reply_count
+            FROM curious c JOIN post p ON c.post_id = p.id JOIN topic t ON p.topic_id = t.id
+            WHERE c.created_at >= :from
+            GROUP BY t.moim_id, DATE(c.created_at)
+        ) AS new
+        ON DUPLICATE KEY UPDATE curious_count = new.curious_count
+    """, nativeQuery = true)
+    void backfillCuriousCounts(@Param("from") final LocalDateTime from);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO moim_daily_activity (moim_id, activity_date, post_count, curious_count, comment_count, reply_count)
+        SELECT * FROM (
+            SELECT t.moim_id, DATE(c.created_at) AS activity_date, 0 AS post_count, 0 AS curious_count, COUNT(*) AS comment_count, 0 AS reply_count
+            FROM comment c JOIN post p ON c.post_id = p.id JOIN topic t ON p.topic_id = t.id
+            WHERE c.created_at >= :from
+            GROUP BY t.moim_id, DATE(c.created_at)
+        ) AS new
+        ON DUPLICATE KEY UPDATE comment_count = new.comment_count
+    """, nativeQuery = true)
+    void backfillCommentCounts(@Param("from") final LocalDateTime from);
+}
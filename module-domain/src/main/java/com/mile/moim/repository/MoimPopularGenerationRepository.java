@@ -0,0 +1,36 @@
+package com.mile.moim.repository;
+
+import com.mile.moim.domain.popular.MoimPopularGeneration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface MoimPopularGenerationRepository extends JpaRepository<MoimPopularGeneration, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO moim_popular_generation (id, generation) VALUES (:id, 0)", nativeQuery = true)
+    void insertIgnore(@Param("id") final Long id);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE MoimPopularGeneration g
+        SET g.pendingGeneration = g.generation + 1, g.pendingDeadline = :deadline
+        WHERE g.id = :id AND g.pendingGeneration IS NULL
+    """)
+    int startPending(@Param("id") final Long id, @Param("deadline") final LocalDateTime deadline);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE MoimPopularGeneration g
+        SET g.generation = :generation, g.pendingGeneration = NULL, g.pendingDeadline = NULL
+        WHERE g.id = :id AND g.pendingGeneration = :generation
+    """)
+    int flip(@Param("id") final Long id, @Param("generation") final Long generation);
+}
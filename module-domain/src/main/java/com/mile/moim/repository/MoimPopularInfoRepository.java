@@ -2,15 +2,59 @@ package com.mile.moim.repository;
 
 import com.mile.moim.domain.popular.MoimPopularInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MoimPopularInfoRepository extends JpaRepository<MoimPopularInfo, Long> {
 
-    @Query("select m from MoimPopularInfo m join fetch m.posts join fetch m.writers where m.moimId = :moimId")
-    Optional<MoimPopularInfo> findByMoimId(final long moimId);
+    @Query("SELECT m FROM MoimPopularInfo m WHERE m.moimId = :moimId " +
+            "AND m.generation = (SELECT g.generation FROM MoimPopularGeneration g WHERE g.id = :pointerId)")
+    Optional<MoimPopularInfo> findCurrentByMoimId(@Param("moimId") final Long moimId, @Param("pointerId") final Long pointerId);
+
+    Optional<MoimPopularInfo> findByMoimIdAndGeneration(final Long moimId, final Long generation);
+
+    /*
+    같은 (모임, 세대) 행을 여러 노드가 동시에 만들어도 유니크 키 충돌 없이 마지막 값으로 덮어쓴다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO moim_popular_snapshot (moim_id, generation, payload, created_at)
+        VALUES (:moimId, :generation, :payload, NOW()) AS new
+        ON DUPLICATE KEY UPDATE payload = new.payload
+    """, nativeQuery = true)
+    void upsert(@Param("moimId") final Long moimId, @Param("generation") final Long generation, @Param("payload") final String payload);
+
+    @Query("select m.moimId from MoimPopularInfo m where m.generation = :generation")
+    List<Long> findAllMoimIdsByGeneration(@Param("generation") final Long generation);
+
+    /*
+    다음 세대에 행이 없는 모임(갱신 실패, 노드 중단)은 이전 세대의 스냅샷을 그대로 옮겨 세대 전환 후에도 비지 않게 한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO moim_popular_snapshot (moim_id, generation, payload, created_at)
+        SELECT s.moim_id, :to, s.payload, NOW()
+        FROM moim_popular_snapshot s
+        WHERE s.generation = :from
+    """, nativeQuery = true)
+    int copyMissingToGeneration(@Param("from") final Long from, @Param("to") final Long to);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MoimPopularInfo m WHERE m.generation < :generation")
+    int deleteAllBeforeGeneration(@Param("generation") final Long generation);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MoimPopularInfo m WHERE m.moimId = :moimId")
+    void deleteAllByMoimId(@Param("moimId") final Long moimId);
 
     @Query("select count(m) from MoimPopularInfo m")
     Long countAll();
@@ -4,10 +4,11 @@ import com.mile.moim.domain.Moim;
 import com.mile.writername.domain.WriterName;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,9 +22,6 @@ public interface MoimRepository extends JpaRepository<Moim, Long> {
 
     Boolean existsByNormalizedName(final String normalizedName);
 
-    @Query("SELECT m FROM Post p JOIN p.topic t JOIN t.moim m WHERE m.isPublic = true AND p.isTemporary = false AND p.createdAt BETWEEN :startOfWeek AND :endOfWeek GROUP BY m ORDER BY COUNT(p)")
-    List<Moim> findTop3PublicMoimWithMostPostsLastWeek(final Pageable pageable, final @Param("startOfWeek") LocalDateTime startOfWeek, final @Param("endOfWeek") LocalDateTime endOfWeek);
-
     @Query("SELECT m FROM Post p JOIN p.topic t JOIN t.moim m WHERE m.isPublic = true AND p.isTemporary = false AND m NOT IN :excludeMoims GROUP BY m ORDER BY MAX(p.createdAt) DESC")
     List<Moim> findLatestMoimWithExclusion(final Pageable pageable, final @Param("excludeMoims") List<Moim> excludeMoims);
 
@@ -31,4 +29,19 @@ public interface MoimRepository extends JpaRepository<Moim, Long> {
     List<Moim> findLatestMoimsWithoutExclusion(Pageable pageable);
 
     Optional<Moim> findByOwner(final WriterName writerName);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Moim m SET m.writerNameCount = m.writerNameCount + 1 WHERE m.id = :moimId")
+    void increaseWriterNameCount(@Param("moimId") Long moimId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Moim m SET m.writerNameCount = m.writerNameCount - 1 WHERE m.id = :moimId AND m.writerNameCount > 0")
+    void decreaseWriterNameCount(@Param("moimId") Long moimId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Moim m SET m.writerNameCount = (SELECT count(w) FROM WriterName w WHERE w.moim.id = m.id)")
+    int recountWriterNameCount();
 }
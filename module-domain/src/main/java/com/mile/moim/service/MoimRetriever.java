@@ -4,6 +4,7 @@ import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.ForbiddenException;
 import com.mile.exception.model.NotFoundException;
 import com.mile.moim.domain.Moim;
+import com.mile.moim.repository.MoimDailyActivityRepository;
 import com.mile.moim.repository.MoimRepository;
 import com.mile.moim.service.dto.response.MoimInfoResponse;
 import com.mile.common.lock.AtomicValidateUniqueMoimName;
@@ -15,15 +16,20 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import reactor.util.annotation.NonNull;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class MoimRetriever {
 
+    private static final int BEST_MOIM_DAYS = 7;
+
     private final MoimRepository moimRepository;
+    private final MoimDailyActivityRepository moimDailyActivityRepository;
 
     public Moim findById(
             final Long moimId
@@ -63,10 +69,15 @@ public class MoimRetriever {
     }
 
     public List<Moim> findBestMoims() {
-        LocalDateTime endOfWeek = LocalDateTime.now();
-        LocalDateTime startOfWeek = endOfWeek.minusDays(7);
+        LocalDate startOfWeek = LocalDate.now().minusDays(BEST_MOIM_DAYS - 1);
         PageRequest pageRequest = PageRequest.of(0, 3);
-        return moimRepository.findTop3PublicMoimWithMostPostsLastWeek(pageRequest, startOfWeek, endOfWeek);
+        List<Long> moimIds = moimDailyActivityRepository.findMostPostedPublicMoimIds(pageRequest, startOfWeek);
+        Map<Long, Moim> moimMap = moimRepository.findAllById(moimIds).stream()
+                .collect(Collectors.toMap(Moim::getId, moim -> moim));
+        return moimIds.stream()
+                .filter(moimMap::containsKey)
+                .map(moimMap::get)
+                .collect(Collectors.toList());
     }
 
     public List<Moim> getLatestMoims(int count, List<Moim> excludeMoims) {
@@ -84,10 +95,6 @@ public class MoimRetriever {
         return !moimRepository.existsByNormalizedName(normalizedName);
     }
 
-
-    public List<Moim> findAll() {
-        return moimRepository.findAll();
-    }
     public Optional<Moim> findByOwner(final WriterName writerName) {
         return moimRepository.findByOwner(writerName);
     }
@@ -34,10 +34,10 @@ import com.mile.moim.service.dto.response.TemporaryPostExistResponse;
 import com.mile.moim.service.dto.response.TopicListResponse;
 import com.mile.moim.service.dto.response.WriterNameConflictCheckResponse;
 import com.mile.common.lock.AtomicValidateUniqueMoimName;
+import com.mile.moim.service.best.BestMoimSnapshotService;
 import com.mile.moim.service.popular.MoimPopularInfoService;
-import com.mile.post.domain.Post;
+import com.mile.post.service.PostCardRetriever;
 import com.mile.post.service.PostRetriever;
-import com.mile.post.service.dto.response.PostDataResponse;
 import com.mile.topic.service.TopicCreator;
 import com.mile.topic.service.TopicRemover;
 import com.mile.topic.service.TopicRetriever;
@@ -55,7 +55,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -67,6 +66,7 @@ public class MoimService {
     private final WriterNameRetriever writerNameRetriever;
     private final UserRetriever userRetriever;
     private final PostRetriever postRetriever;
+    private final PostCardRetriever postCardRetriever;
     private final SecureUrlUtil secureUrlUtil;
     private final MoimRemover moimRemover;
     private final MoimRetriever moimRetriever;
@@ -76,10 +76,10 @@ public class MoimService {
     private final TopicRetriever topicRetriever;
     private final TopicCreator topicCreator;
     private final MoimPopularInfoService moimPopularInfoService;
+    private final BestMoimSnapshotService bestMoimSnapshotService;
 
     private static final int WRITER_NAME_MAX_VALUE = 8;
     private static final int MOIM_NAME_MAX_VALUE = 10;
-    private static final int BEST_MOIM_DEFAULT_NUMBER = 3;
 
     public ContentListResponse getContentsFromMoim(
             final Long moimId
@@ -114,7 +114,8 @@ public class MoimService {
             final HashMap<Long, WriterNameInfo> writerNameInfoHashMap
     ) {
         isUserAlreadyInMoim(moimId, writerNameInfoHashMap);
-        return MoimInvitationInfoResponse.of(moimRetriever.findById(moimId), writerNameRetriever.findNumbersOfWritersByMoimId(moimId));
+        Moim moim = moimRetriever.findById(moimId);
+        return MoimInvitationInfoResponse.of(moim, moim.getWriterNameCount());
     }
 
     private void isUserAlreadyInMoim(
@@ -165,7 +166,7 @@ public class MoimService {
                 moim.getName(),
                 moim.getOwner().getName(),
                 moim.getInformation(),
-                writerNameRetriever.findNumbersOfWritersByMoimId(moimId),
+                moim.getWriterNameCount(),
                 DateUtil.getStringDateOfLocalDate(moim.getCreatedAt())
         );
     }
@@ -173,7 +174,7 @@ public class MoimService {
 
     public MoimOverallInfoResponse getMoimTotalInformation(final Long moimId) {
         Moim moim = moimRetriever.findById(moimId);
-        MoimInfoResponse moimInfoResponse = moimRetriever.getMoimInfoForTotal(moim, writerNameRetriever.findNumbersOfWritersByMoim(moim));
+        MoimInfoResponse moimInfoResponse = moimRetriever.getMoimInfoForTotal(moim, moim.getWriterNameCount());
         MoimPopularInfo moimPopularInfo = moimPopularInfoService.getMoimPopularInfo(moim);
         MoimMostCuriousWriterResponse mostCuriousWriterResponse = MoimMostCuriousWriterResponse.of(moimPopularInfo.getWriters());
         MoimCuriousPostListResponse moimCuriousPostListResponse = MoimCuriousPostListResponse.of(
@@ -184,7 +185,7 @@ public class MoimService {
 
     public MoimCuriousPostListResponse getMostCuriousPostFromMoim(final Long moimId) {
         Moim moim = moimRetriever.findById(moimId);
-        return postRetriever.getMostCuriousPostByMoim(moim);
+        return postCardRetriever.getMostCuriousPostByMoim(moim);
     }
 
     public TopicListResponse getTopicList(
@@ -205,30 +206,8 @@ public class MoimService {
     }
 
 
-    public List<Moim> getBestMoimByPostNumber() {
-
-        List<Moim> moims = moimRetriever.findBestMoims();
-
-        if (moims.size() < BEST_MOIM_DEFAULT_NUMBER) {
-            int remaining = BEST_MOIM_DEFAULT_NUMBER - moims.size();
-            List<Moim> latestMoims = moimRetriever.getLatestMoims(remaining, moims);
-            moims.addAll(latestMoims);
-        }
-
-        return moims;
-    }
-
     public BestMoimListResponse getBestMoimAndPostList() {
-
-        List<Moim> bestMoimsByPostNumber = getBestMoimByPostNumber();
-
-        Map<Moim, List<Post>> bestMoimAndPostMap = bestMoimsByPostNumber.stream()
-                .collect(Collectors.toMap(
-                        moim -> moim,
-                        postRetriever::getLatestPostsByMoim
-                ));
-
-        return BestMoimListResponse.of(bestMoimAndPostMap);
+        return bestMoimSnapshotService.getBestMoimAndPostList();
     }
 
     public TemporaryPostExistResponse getTemporaryPost(
@@ -259,6 +238,7 @@ public class MoimService {
         }
 
         moim.modifyMoimInfo(modifyRequest);
+        bestMoimSnapshotService.markStale();
     }
 
     @AtomicValidateUniqueMoimName
@@ -365,9 +345,6 @@ public class MoimService {
         topicRemover.deleteTopicsByMoim(moim);
         writerNameRemover.setWriterNameMoimNull(moim.getOwner());
         moimRemover.deleteMoim(moim);
-    }
-
-    public PostDataResponse getAllPostMoimMap() {
-        return postRetriever.getAllPostDataByMoim(moimRetriever.findAll());
+        bestMoimSnapshotService.markStale();
     }
 }
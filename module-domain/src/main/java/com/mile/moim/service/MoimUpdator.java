@@ -0,0 +1,29 @@
+package com.mile.moim.service;
+
+import com.mile.moim.domain.Moim;
+import com.mile.moim.repository.MoimRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MoimUpdator {
+
+    private final MoimRepository moimRepository;
+
+    public void increaseWriterNameCount(
+            final Moim moim
+    ) {
+        moimRepository.increaseWriterNameCount(moim.getId());
+    }
+
+    public void decreaseWriterNameCount(
+            final Moim moim
+    ) {
+        moimRepository.decreaseWriterNameCount(moim.getId());
+    }
+
+    public int recountWriterNameCount() {
+        return moimRepository.recountWriterNameCount();
+    }
+}
@@ -0,0 +1,64 @@
+package com.mile.moim.service.activity;
+
+import com.mile.common.batch.IdRangeBatchRunner;
+import com.mile.moim.repository.MoimDailyActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 글모임 일별 활동 집계(moim_daily_activity)를 원본 테이블 기준으로 다시 맞춘다.
+ * <p>
+ * 글 작성/삭제와 궁금해요, 댓글, 답글 작성은 쓰기 시점에 누적하지만, 궁금해요/댓글/답글 삭제와 일괄 삭제는 차감하지 않는다.
+ * 글/궁금해요/댓글 수는 매일 새벽 최근 BACKFILL_DAYS 일을 재집계하며 보정하므로, 그 전까지는 실제보다 클 수 있다.
+ * 답글은 작성 시각을 저장하지 않아 재집계하지 않으므로, 답글 수는 그 날 작성된 답글 수이며 삭제되어도 줄지 않는다.
+ * 재집계는 여러 노드에서 겹치지 않도록 잠금을 잡은 노드만 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MoimDailyActivityService {
+
+    private static final int BACKFILL_DAYS = 8;
+    private static final String JOB_NAME = "글모임 일별 활동 재집계";
+    private static final Duration BACKFILL_LEASE = Duration.ofMinutes(30);
+    private static final String BACKFILL_LOCK = "MOIM_DAILY_ACTIVITY_BACKFILL_LOCK";
+
+    private final MoimDailyActivityRepository moimDailyActivityRepository;
+    private final MoimDailyActivityUpdator moimDailyActivityUpdator;
+    private final IdRangeBatchRunner idRangeBatchRunner;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (moimDailyActivityRepository.count() > 0 || !idRangeBatchRunner.tryAcquireLease(JOB_NAME, BACKFILL_LOCK, BACKFILL_LEASE)) {
+            return;
+        }
+        try {
+            if (moimDailyActivityRepository.count() == 0) {
+                backfill();
+            }
+        } finally {
+            idRangeBatchRunner.releaseLease(JOB_NAME, BACKFILL_LOCK);
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void backfillForScheduled() {
+        if (!idRangeBatchRunner.tryAcquireLease(JOB_NAME, BACKFILL_LOCK, BACKFILL_LEASE)) {
+            return;
+        }
+        backfill();
+    }
+
+    private void backfill() {
+        LocalDate from = LocalDate.now().minusDays(BACKFILL_DAYS);
+        moimDailyActivityUpdator.backfill(from);
+        log.info("글모임 일별 활동 재집계 완료 : {} 부터", from);
+    }
+}
@@ -0,0 +1,47 @@
+package com.mile.moim.service.activity;
+
+import com.mile.moim.repository.MoimDailyActivityRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MoimDailyActivityUpdator {
+
+    private final MoimDailyActivityRepository moimDailyActivityRepository;
+
+    public void increasePostCount(final Long moimId) {
+        moimDailyActivityRepository.increasePostCount(moimId, LocalDate.now());
+    }
+
+    public void decreasePostCount(
+            final Long moimId,
+            final LocalDate postDate
+    ) {
+        moimDailyActivityRepository.decreasePostCount(moimId, postDate);
+    }
+
+    public void increaseCuriousCount(final Long moimId) {
+        moimDailyActivityRepository.increaseCuriousCount(moimId, LocalDate.now());
+    }
+
+    public void increaseCommentCount(final Long moimId) {
+        moimDailyActivityRepository.increaseCommentCount(moimId, LocalDate.now());
+    }
+
+    public void increaseReplyCount(final Long moimId) {
+        moimDailyActivityRepository.increaseReplyCount(moimId, LocalDate.now());
+    }
+
+    @Transactional
+    public void backfill(final LocalDate from) {
+        moimDailyActivityRepository.resetCountsFrom(from);
+        moimDailyActivityRepository.backfillPostCounts(from.atStartOfDay());
+        moimDailyActivityRepository.backfillCuriousCounts(from.atStartOfDay());
+        moimDailyActivityRepository.backfillCommentCounts(from.atStartOfDay());
+    }
+}
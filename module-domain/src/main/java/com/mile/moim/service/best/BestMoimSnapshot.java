@@ -0,0 +1,23 @@
+package com.mile.moim.service.best;
+
+import com.mile.moim.service.dto.response.BestMoimListResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record BestMoimSnapshot(
+        BestMoimListResponse response,
+        Instant createdAt
+) {
+    public static BestMoimSnapshot of(final BestMoimListResponse response) {
+        return new BestMoimSnapshot(response, Instant.now());
+    }
+
+    public Duration getAge() {
+        return Duration.between(createdAt, Instant.now());
+    }
+
+    public boolean isOlderThan(final Duration maxAge) {
+        return getAge().compareTo(maxAge) > 0;
+    }
+}
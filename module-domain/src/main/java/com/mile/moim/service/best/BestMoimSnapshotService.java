@@ -0,0 +1,137 @@
+package com.mile.moim.service.best;
+
+import com.mile.common.cache.TwoLevelCacheManager;
+import com.mile.moim.domain.Moim;
+import com.mile.moim.service.MoimRetriever;
+import com.mile.moim.service.dto.response.BestMoimListResponse;
+import com.mile.post.domain.PostCard;
+import com.mile.post.service.PostCardRetriever;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 모든 방문자에게 같은 응답을 주는 베스트 글모임 목록을 주기적으로 계산해 메모리에 들고 있는다.
+ * <p>
+ * 글 작성/수정/삭제, 모임 수정/삭제 시 markStale 로 표시해 두면 다음 REFRESH_DELAY 안에 다시 계산한다.
+ * 표시는 트랜잭션이 커밋된 뒤에 하고, 캐시 무효화 토픽으로 다른 노드에도 전달한다.
+ */
+@Slf4j
+@Service
+public class BestMoimSnapshotService {
+
+    private static final int BEST_MOIM_DEFAULT_NUMBER = 3;
+    private static final long REFRESH_DELAY = 10000L;
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+    private static final String INVALIDATION_NAME = "bestMoimSnapshot";
+
+    private final MoimRetriever moimRetriever;
+    private final PostCardRetriever postCardRetriever;
+    private final TwoLevelCacheManager cacheManager;
+    private final AtomicReference<BestMoimSnapshot> snapshot = new AtomicReference<>();
+    private final Object refreshLock = new Object();
+    private volatile boolean stale = true;
+
+    public BestMoimSnapshotService(
+            final MoimRetriever moimRetriever,
+            final PostCardRetriever postCardRetriever,
+            final TwoLevelCacheManager cacheManager,
+            final MeterRegistry meterRegistry
+    ) {
+        this.moimRetriever = moimRetriever;
+        this.postCardRetriever = postCardRetriever;
+        this.cacheManager = cacheManager;
+        cacheManager.addInvalidationListener(INVALIDATION_NAME, () -> stale = true);
+        Gauge.builder("moim.best.snapshot.age", this, BestMoimSnapshotService::getAgeSeconds)
+                .baseUnit("seconds")
+                .description("베스트 글모임 스냅샷이 만들어진 뒤 지난 시간")
+                .register(meterRegistry);
+    }
+
+    public BestMoimListResponse getBestMoimAndPostList() {
+        BestMoimSnapshot current = snapshot.get();
+        if (current == null) {
+            current = loadInitialSnapshot();
+        }
+        return current.response();
+    }
+
+    /*
+    커밋 전에 표시하면 예약된 갱신이 커밋 전 데이터로 스냅샷을 만들고 표시를 지울 수 있으므로 커밋 이후에 표시한다.
+     */
+    public void markStale() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markStaleOnAllNodes();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markStaleOnAllNodes();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = REFRESH_DELAY)
+    public void refreshIfStale() {
+        BestMoimSnapshot current = snapshot.get();
+        if (stale || current == null || current.isOlderThan(MAX_AGE)) {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                stale = true;
+                log.error("베스트 글모임 스냅샷 갱신 중 에러 발생 -> {}", e.getMessage());
+            }
+        }
+    }
+
+    private void markStaleOnAllNodes() {
+        stale = true;
+        cacheManager.publishInvalidation(INVALIDATION_NAME);
+    }
+
+    /*
+    기동 직후 동시에 들어온 요청이 모두 스냅샷을 계산하지 않도록 한 요청만 계산하고 나머지는 그 결과를 사용한다.
+     */
+    private BestMoimSnapshot loadInitialSnapshot() {
+        synchronized (refreshLock) {
+            BestMoimSnapshot current = snapshot.get();
+            return current != null ? current : refresh();
+        }
+    }
+
+    private BestMoimSnapshot refresh() {
+        synchronized (refreshLock) {
+            stale = false;
+            BestMoimSnapshot refreshed = BestMoimSnapshot.of(BestMoimListResponse.of(getBestMoimAndPostMap()));
+            snapshot.set(refreshed);
+            return refreshed;
+        }
+    }
+
+    private Map<Moim, List<PostCard>> getBestMoimAndPostMap() {
+        List<Moim> moims = moimRetriever.findBestMoims();
+        if (moims.size() < BEST_MOIM_DEFAULT_NUMBER) {
+            moims.addAll(moimRetriever.getLatestMoims(BEST_MOIM_DEFAULT_NUMBER - moims.size(), moims));
+        }
+
+        Map<Moim, List<PostCard>> bestMoimAndPostMap = new LinkedHashMap<>();
+        moims.forEach(moim -> bestMoimAndPostMap.put(moim, postCardRetriever.findLatestByMoimId(moim.getId())));
+        return bestMoimAndPostMap;
+    }
+
+    private double getAgeSeconds() {
+        BestMoimSnapshot current = snapshot.get();
+        return current == null ? Double.NaN : current.getAge().toMillis() / 1000.0;
+    }
+}
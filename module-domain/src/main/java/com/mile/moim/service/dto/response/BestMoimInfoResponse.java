@@ -1,12 +1,12 @@
 package com.mile.moim.service.dto.response;
 
 import com.mile.moim.domain.Moim;
-import com.mile.post.domain.Post;
+import com.mile.post.domain.PostCard;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public record BestMoimInfoResponse(String moimId, String moimName, List<BestMoimPostResponse> moimPosts) {
-    public static BestMoimInfoResponse of(Moim moim, final List<Post> posts) {
+    public static BestMoimInfoResponse of(Moim moim, final List<PostCard> posts) {
         return new BestMoimInfoResponse(
                 moim.getIdUrl(),
                 moim.getName(),
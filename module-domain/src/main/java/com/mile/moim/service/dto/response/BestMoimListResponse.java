@@ -1,14 +1,14 @@
 package com.mile.moim.service.dto.response;
 
 import com.mile.moim.domain.Moim;
-import com.mile.post.domain.Post;
+import com.mile.post.domain.PostCard;
 
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 public record BestMoimListResponse(List<BestMoimInfoResponse> moim) {
-    public static BestMoimListResponse of(Map<Moim, List<Post>> bestMoimAndPost) {
+    public static BestMoimListResponse of(Map<Moim, List<PostCard>> bestMoimAndPost) {
 
         List<BestMoimInfoResponse> bestMoims = bestMoimAndPost.entrySet().stream()
                 .map(entry -> BestMoimInfoResponse.of(entry.getKey(), entry.getValue()))
@@ -5,13 +5,13 @@ import com.mile.writername.domain.WriterName;
 
 import com.mile.writername.service.dto.response.PopularWriterResponse;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 public record MoimMostCuriousWriterResponse(List<PopularWriterResponse> popularWriters) {
 
-    public static MoimMostCuriousWriterResponse of(final Set<MoimCuriousWriter> writers) {
+    public static MoimMostCuriousWriterResponse of(final Collection<MoimCuriousWriter> writers) {
         return new MoimMostCuriousWriterResponse(
                 writers
                         .stream()
@@ -0,0 +1,184 @@
+package com.mile.moim.service.popular;
+
+import com.mile.common.config.SchedulingConfig;
+import com.mile.exception.model.NotFoundException;
+import com.mile.moim.domain.popular.MoimPopularGeneration;
+import com.mile.moim.repository.MoimPopularGenerationRepository;
+import com.mile.moim.repository.MoimPopularInfoRepository;
+import com.mile.moim.service.MoimRetriever;
+import com.mile.slack.module.SendMessageModule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자정에 7일 윈도우가 넘어가면 글모임 별 인기 글/인기 작가를 캐시를 비우지 않고 백그라운드에서 다시 계산한다.
+ * <p>
+ * 다시 계산하는 동안에는 기존 캐시 값이 그대로 조회되고, 모임 별 갱신 시점은 REFRESH_WINDOW 안에서 무작위로 분산된다.
+ * 새 스냅샷은 다음 세대로 저장하고 모든 모임의 계산이 끝난 뒤 세대 포인터를 옮기므로, 조회 중인 세대가 비는 일은 없다.
+ * 계산에 실패한 모임은 세대를 옮기기 전에 이전 세대의 스냅샷을 복사해 둔다.
+ * 다음 세대는 DB 에 기록되므로 예약한 노드가 중단되어 마감 시각이 지나면 다른 노드가 세대 전환을 마친다.
+ * <p>
+ * 궁금해요 변경으로 인한 갱신은 현재 세대와 계산 중인 다음 세대 모두에 반영되며, 같은 모임에 대한 요청은 실행 전까지 하나로 합쳐진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MoimPopularInfoRefresher {
+
+    private static final int MAX_PENDING = 10_000;
+    private static final Duration REFRESH_WINDOW = Duration.ofMinutes(10);
+    private static final Duration PENDING_GRACE = Duration.ofMinutes(5);
+    private static final long EVENT_REFRESH_DELAY = 1000L;
+    private static final long PENDING_CHECK_DELAY = 60000L;
+    private static final String REFRESH_LOCK = "MOIM_POPULAR_REFRESH_LOCK";
+
+    private final MoimPopularInfoRepository moimPopularInfoRepository;
+    private final MoimPopularGenerationRepository moimPopularGenerationRepository;
+    private final MoimPopularInfoRegister moimPopularInfoRegister;
+    private final MoimRetriever moimRetriever;
+    private final RedissonClient redissonClient;
+    private final SendMessageModule sendMessageModule;
+    @Qualifier(SchedulingConfig.MOIM_POPULAR_REFRESH_SCHEDULER)
+    private final TaskScheduler worker;
+    private final Set<Long> refreshingMoimIds = ConcurrentHashMap.newKeySet();
+
+    /*
+    날짜 버킷이 바뀐 직후 한 노드만 전체 모임의 갱신을 예약한다.
+    잠금은 해제하지 않고 REFRESH_WINDOW 가 지나 만료되도록 두어 다른 노드의 중복 실행을 막는다.
+     */
+    @Scheduled(cron = "30 0 0 * * *")
+    public void refreshAllForScheduled() {
+        if (!acquireRefreshLease()) {
+            return;
+        }
+        completeExpiredPending();
+        LocalDateTime deadline = LocalDateTime.now().plus(REFRESH_WINDOW).plus(PENDING_GRACE);
+        if (moimPopularGenerationRepository.startPending(MoimPopularGeneration.POINTER_ID, deadline) == 0) {
+            log.error("인기 글/인기 작가 갱신 중 에러 발생 -> 이전 세대 전환이 끝나지 않음");
+            return;
+        }
+        Long nextGeneration = moimPopularInfoRegister.getGenerationPointer().getPendingGeneration();
+        List<Long> moimIds = moimPopularInfoRepository.findAllMoimIdsByGeneration(nextGeneration - 1);
+        if (moimIds.isEmpty()) {
+            completeGeneration(nextGeneration, 0);
+            return;
+        }
+        AtomicInteger remaining = new AtomicInteger(moimIds.size());
+        AtomicInteger failures = new AtomicInteger();
+        for (Long moimId : moimIds) {
+            long delay = ThreadLocalRandom.current().nextLong(REFRESH_WINDOW.toMillis());
+            worker.schedule(() -> {
+                try {
+                    if (!refresh(moimId, nextGeneration)) {
+                        failures.incrementAndGet();
+                    }
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        completeGeneration(nextGeneration, failures.get());
+                    }
+                }
+            }, Instant.now().plusMillis(delay));
+        }
+        sendMessageModule.sendMessage("글모임 별 인기 글/인기 작가 갱신 예약 완료 : 총 " + moimIds.size() + "개의 모임");
+    }
+
+    /*
+    갱신을 예약한 노드가 마감 시각까지 세대를 옮기지 못했다면, 남은 모임은 이전 세대 값으로 채우고 세대를 옮긴다.
+     */
+    @Scheduled(fixedDelay = PENDING_CHECK_DELAY)
+    public void completeExpiredPending() {
+        try {
+            MoimPopularGeneration pointer = moimPopularInfoRegister.getGenerationPointer();
+            if (pointer.isPendingExpired(LocalDateTime.now())) {
+                completeGeneration(pointer.getPendingGeneration(), 0);
+            }
+        } catch (RuntimeException e) {
+            log.error("인기 글/인기 작가 세대 전환 확인 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    public void scheduleRefresh(final Long moimId) {
+        if (refreshingMoimIds.size() >= MAX_PENDING || !refreshingMoimIds.add(moimId)) {
+            return;
+        }
+        worker.schedule(() -> {
+            refreshingMoimIds.remove(moimId);
+            MoimPopularGeneration pointer = moimPopularInfoRegister.getGenerationPointer();
+            refresh(moimId, pointer.getGeneration());
+            // 계산 중인 다음 세대에도 반영해야 세대 전환 시 이전 값으로 덮이지 않는다.
+            if (pointer.getPendingGeneration() != null) {
+                refresh(moimId, pointer.getPendingGeneration());
+            }
+        }, Instant.now().plusMillis(EVENT_REFRESH_DELAY));
+    }
+
+    /*
+    갱신에 실패하면 false 를 반환한다.
+     */
+    private boolean refresh(
+            final Long moimId,
+            final Long generation
+    ) {
+        try {
+            moimPopularInfoRegister.setMostPopularInfoOfMoim(moimRetriever.findById(moimId), generation);
+            return true;
+        } catch (NotFoundException e) {
+            moimPopularInfoRepository.deleteAllByMoimId(moimId);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("인기 글/인기 작가 갱신 중 에러 발생 -> {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /*
+    세대를 옮긴 노드만 이전 세대를 지운다. 이미 다른 노드가 옮겼다면 아무것도 하지 않는다.
+     */
+    private void completeGeneration(
+            final Long generation,
+            final int failureCount
+    ) {
+        try {
+            int copiedCount = moimPopularInfoRepository.copyMissingToGeneration(generation - 1, generation);
+            if (moimPopularGenerationRepository.flip(MoimPopularGeneration.POINTER_ID, generation) == 0) {
+                return;
+            }
+            moimPopularInfoRepository.deleteAllBeforeGeneration(generation);
+            if (failureCount > 0 || copiedCount > 0) {
+                sendMessageModule.sendMessage("글모임 별 인기 글/인기 작가 갱신 실패 : " + failureCount + "개의 모임, 이전 값 유지 : " + copiedCount + "개의 모임");
+            }
+        } catch (RuntimeException e) {
+            log.error("인기 글/인기 작가 세대 전환 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    private boolean acquireRefreshLease() {
+        try {
+            RLock lock = redissonClient.getLock(REFRESH_LOCK);
+            return lock.tryLock(0, REFRESH_WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RedisException e) {
+            log.error("인기 글 갱신 잠금 획득 중 에러 발생 -> {}", e.getMessage());
+            return true;
+        }
+    }
+}
@@ -1,66 +1,142 @@
 package com.mile.moim.service.popular;
 
-import com.mile.common.lock.DistributedLock;
 import com.mile.curious.repository.dto.PostAndCuriousCountInLastWeek;
 import com.mile.curious.service.CuriousRetriever;
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.MileException;
 import com.mile.moim.domain.Moim;
 import com.mile.moim.domain.popular.MoimCuriousPost;
 import com.mile.moim.domain.popular.MoimCuriousWriter;
+import com.mile.moim.domain.popular.MoimPopularGeneration;
 import com.mile.moim.domain.popular.MoimPopularInfo;
+import com.mile.moim.domain.popular.MoimPopularPayload;
+import com.mile.moim.domain.popular.MoimPopularPayloadConverter;
+import com.mile.moim.repository.MoimPopularGenerationRepository;
 import com.mile.moim.repository.MoimPopularInfoRepository;
+import com.mile.post.service.PostCardRetriever;
 import com.mile.writername.domain.WriterName;
+import com.mile.writername.service.WriterNameRetriever;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.client.RedisException;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class MoimPopularInfoRegister {
 
+    private static final int POPULAR_SIZE = 2;
+    private static final MoimPopularPayloadConverter PAYLOAD_CONVERTER = new MoimPopularPayloadConverter();
+
     private final MoimPopularInfoRepository moimPopularInfoRepository;
+    private final MoimPopularGenerationRepository moimPopularGenerationRepository;
     private final CuriousRetriever curiousRetriever;
-    private final DistributedLock distributedLock;
+    private final PostCardRetriever postCardRetriever;
+    private final WriterNameRetriever writerNameRetriever;
+    private final MoimPopularRanking moimPopularRanking;
+
+
+    private List<MoimCuriousPost> getMoimCuriousPost(final Moim moim) {
+        List<Long> postIds = new ArrayList<>(moimPopularRanking.getTopPostIds(moim.getId(), POPULAR_SIZE));
+        if (postIds.size() < POPULAR_SIZE) {
+            postIds.addAll(curiousRetriever.findPostIdsByLatestCurious(moim, POPULAR_SIZE - postIds.size(), postIds));
+        }
+        return postCardRetriever.findAllByPostIds(postIds).stream().map(MoimCuriousPost::of).toList();
+    }
 
+    private List<MoimCuriousWriter> getMoimCuriousWriter(final Moim moim) {
+        return writerNameRetriever.findAllByIds(moimPopularRanking.getTopWriterNameIds(moim.getId(), POPULAR_SIZE))
+                .stream().map(MoimCuriousWriter::of).toList();
+    }
 
-    private Set<MoimCuriousPost> getMoimCuriousPost(final List<PostAndCuriousCountInLastWeek> mostCuriousPostsInLastWeek) {
-        return mostCuriousPostsInLastWeek.stream().map(p ->
-                MoimCuriousPost.of(p.getPost())).limit(2).collect(Collectors.toUnmodifiableSet());
+    private List<MoimCuriousPost> getMoimCuriousPost(final List<PostAndCuriousCountInLastWeek> mostCuriousPostsInLastWeek) {
+        List<Long> postIds = mostCuriousPostsInLastWeek.stream().map(p -> p.getPost().getId()).distinct().limit(POPULAR_SIZE).toList();
+        return postCardRetriever.findAllByPostIds(postIds).stream().map(MoimCuriousPost::of).toList();
     }
 
-    private Set<MoimCuriousWriter> getMoimCuriousWriter(final List<PostAndCuriousCountInLastWeek> mostCuriousPostsInLastWeek) {
+    private List<MoimCuriousWriter> getMoimCuriousWriter(final List<PostAndCuriousCountInLastWeek> mostCuriousPostsInLastWeek) {
         Map<WriterName, Long> writerNameCount = mostCuriousPostsInLastWeek.stream()
                 .collect(Collectors.groupingBy(p -> p.getPost().getWriterName(), Collectors.summingLong(PostAndCuriousCountInLastWeek::getCount)));
 
         List<WriterName> topTwoWriters = writerNameCount.entrySet().stream()
                 .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .limit(2)
+                .limit(POPULAR_SIZE)
                 .map(Map.Entry::getKey).toList();
 
-        return topTwoWriters.stream().map(MoimCuriousWriter::of).collect(Collectors.toUnmodifiableSet());
+        return topTwoWriters.stream().map(MoimCuriousWriter::of).toList();
+    }
+
+    /*
+    현재 세대의 스냅샷을 한 행으로 읽고, 없을 때만 새로 계산한다.
+     */
+    public MoimPopularInfo getMoimPopularInfo(final Moim moim) {
+        return moimPopularInfoRepository.findCurrentByMoimId(moim.getId(), MoimPopularGeneration.POINTER_ID)
+                .orElseGet(() -> register(moim, getCurrentGeneration()));
     }
 
     @CachePut(value = "moimPopularInfo", key = "#moim.id")
     public MoimPopularInfo setMostPopularInfoOfMoim(final Moim moim) {
+        return register(moim, getCurrentGeneration());
+    }
 
-        List<PostAndCuriousCountInLastWeek> mostCuriousPostsInLastWeek = curiousRetriever.findMostCuriousPostsInLastWeek(moim);
-
-        Set<MoimCuriousPost> moimCuriousPosts = getMoimCuriousPost(mostCuriousPostsInLastWeek);
-
-        Set<MoimCuriousWriter> moimCuriousWriters = getMoimCuriousWriter(mostCuriousPostsInLastWeek);
-
-        MoimPopularInfo moimPopularInfo = MoimPopularInfo.of(moim.getId(), moimCuriousPosts, moimCuriousWriters);
+    @CachePut(value = "moimPopularInfo", key = "#moim.id")
+    public MoimPopularInfo setMostPopularInfoOfMoim(
+            final Moim moim,
+            final Long generation
+    ) {
+        return register(moim, generation);
+    }
 
-        moimPopularInfoRepository.saveAndFlush(moimPopularInfo);
+    public Long getCurrentGeneration() {
+        return getGenerationPointer().getGeneration();
+    }
 
-        distributedLock.afterLock("MOIM_POPULAR_LOCK" + moim.getId());
+    /*
+    여러 노드가 동시에 기동해도 포인터 행이 한 번만 만들어지도록 INSERT IGNORE 로 만든 뒤 다시 읽는다.
+     */
+    public MoimPopularGeneration getGenerationPointer() {
+        return moimPopularGenerationRepository.findById(MoimPopularGeneration.POINTER_ID)
+                .orElseGet(() -> {
+                    moimPopularGenerationRepository.insertIgnore(MoimPopularGeneration.POINTER_ID);
+                    return moimPopularGenerationRepository.findById(MoimPopularGeneration.POINTER_ID)
+                            .orElseThrow(() -> new MileException(ErrorMessage.INTERNAL_SERVER_ERROR));
+                });
+    }
 
-        return moimPopularInfo;
+    private MoimPopularInfo register(
+            final Moim moim,
+            final Long generation
+    ) {
+        List<MoimCuriousPost> moimCuriousPosts;
+        List<MoimCuriousWriter> moimCuriousWriters;
+        try {
+            if (!moimPopularRanking.isLoaded(moim.getId())) {
+                moimPopularRanking.rebuild(moim);
+            }
+            moimCuriousPosts = getMoimCuriousPost(moim);
+            moimCuriousWriters = getMoimCuriousWriter(moim);
+        } catch (RedisException e) {
+            log.error("인기 글 순위 조회 중 에러 발생 -> {}", e.getMessage());
+            List<PostAndCuriousCountInLastWeek> mostCuriousPostsInLastWeek = curiousRetriever.findMostCuriousPostsInLastWeek(moim);
+            moimCuriousPosts = getMoimCuriousPost(mostCuriousPostsInLastWeek);
+            moimCuriousWriters = getMoimCuriousWriter(mostCuriousPostsInLastWeek);
+        }
+
+        moimPopularInfoRepository.upsert(
+                moim.getId(),
+                generation,
+                PAYLOAD_CONVERTER.convertToDatabaseColumn(MoimPopularPayload.of(moimCuriousPosts, moimCuriousWriters))
+        );
+        return moimPopularInfoRepository.findByMoimIdAndGeneration(moim.getId(), generation)
+                .orElseThrow(() -> new MileException(ErrorMessage.INTERNAL_SERVER_ERROR));
     }
 
 }
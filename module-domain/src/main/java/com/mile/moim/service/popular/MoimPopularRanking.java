@@ -0,0 +1,383 @@
+package com.mile.moim.service.popular;
+
+import com.mile.curious.repository.CuriousRepository;
+import com.mile.curious.repository.dto.PostCuriousHistory;
+import com.mile.moim.domain.Moim;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 글모임 별 최근 7일 간의 궁금해요를 일 단위 Sorted Set 에 누적해 인기 글/인기 작가 순위를 계산한다.
+ * <p>
+ * 일 단위 키는 WINDOW_DAYS + 1 일이 지나면 만료되므로 별도의 정리 작업 없이 7일 윈도우가 유지된다.
+ * 점수 증감과 순위 조회는 각각 하나의 Lua 스크립트로 실행되어 동시에 들어온 증감이 서로를 지우지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MoimPopularRanking {
+
+    private static final int WINDOW_DAYS = 7;
+    private static final Duration BUCKET_TTL = Duration.ofDays(WINDOW_DAYS + 1);
+    private static final Duration REBUILD_LEASE = Duration.ofMinutes(1);
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String POST_KEY = "MOIM_POPULAR_POST:";
+    private static final String WRITER_KEY = "MOIM_POPULAR_WRITER:";
+    private static final String LOADED_KEY = "MOIM_POPULAR_LOADED:";
+    private static final String REBUILD_LOCK = "MOIM_POPULAR_REBUILD_LOCK:";
+    private static final String UNION_SUFFIX = ":UNION";
+    private static final String REBUILD_SUFFIX = ":REBUILD";
+
+    /*
+    KEYS[1] 의 ARGV[2] 점수에 ARGV[1] 을 더하고, 0 이하가 되면 제거한다.
+     */
+    private static final String ADD_SCORE_SCRIPT = """
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2]))
+            if score <= 0 then
+                redis.call('ZREM', KEYS[1], ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """;
+
+    /*
+    KEYS 는 (글 버킷, 작가 버킷) 쌍을 최신 날짜부터 담는다.
+    ARGV[1] 글의 점수가 남아 있는 가장 최근 버킷에서 글과 ARGV[2] 작가의 점수를 1씩 뺀다.
+     */
+    private static final String DECREASE_LATEST_SCRIPT = """
+            for i = 1, #KEYS - 1, 2 do
+                local score = tonumber(redis.call('ZSCORE', KEYS[i], ARGV[1]))
+                if score and score > 0 then
+                    if tonumber(redis.call('ZINCRBY', KEYS[i], -1, ARGV[1])) <= 0 then
+                        redis.call('ZREM', KEYS[i], ARGV[1])
+                    end
+                    local writerScore = redis.call('ZSCORE', KEYS[i + 1], ARGV[2])
+                    if writerScore then
+                        if tonumber(redis.call('ZINCRBY', KEYS[i + 1], -1, ARGV[2])) <= 0 then
+                            redis.call('ZREM', KEYS[i + 1], ARGV[2])
+                        end
+                    end
+                    return 1
+                end
+            end
+            return 0
+            """;
+
+    /*
+    KEYS[1](글 버킷)에서 ARGV[1] 글을 제거하고, 그 점수만큼 KEYS[2](작가 버킷)의 ARGV[2] 점수를 뺀다.
+     */
+    private static final String REMOVE_POST_SCRIPT = """
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then
+                return 0
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            local remain = tonumber(redis.call('ZINCRBY', KEYS[2], -tonumber(score), ARGV[2]))
+            if remain <= 0 then
+                redis.call('ZREM', KEYS[2], ARGV[2])
+            end
+            return 1
+            """;
+
+    /*
+    KEYS[2..] 의 일 단위 버킷을 KEYS[1] 에 합산한 뒤, ARGV[1] 번째 점수 이상인 항목을 점수와 함께 반환한다.
+    같은 점수는 id 순으로 정렬해야 하므로 경계 점수와 같은 항목은 모두 반환하고 자르는 것은 호출한 쪽에서 한다.
+     */
+    private static final String TOP_SCRIPT = """
+            local count = redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+            if count == 0 then
+                return {}
+            end
+            local min = '(0'
+            local boundary = redis.call('ZREVRANGE', KEYS[1], ARGV[1] - 1, ARGV[1] - 1, 'WITHSCORES')
+            if #boundary > 0 and tonumber(boundary[2]) > 0 then
+                min = boundary[2]
+            end
+            local result = redis.call('ZREVRANGEBYSCORE', KEYS[1], '+inf', min, 'WITHSCORES')
+            redis.call('DEL', KEYS[1])
+            return result
+            """;
+
+    /*
+    KEYS 는 (임시 키, 운영 키) 쌍 목록과 마지막의 적재 표시 키로 이루어진다.
+    임시 키가 있으면 운영 키를 덮어쓰고, 없으면 그 날짜에 궁금해요가 없으므로 운영 키를 지운다.
+     */
+    private static final String SWAP_SCRIPT = """
+            local ttl = tonumber(ARGV[1])
+            for i = 1, #KEYS - 1, 2 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('RENAME', KEYS[i], KEYS[i + 1])
+                    redis.call('EXPIRE', KEYS[i + 1], ttl)
+                else
+                    redis.call('DEL', KEYS[i + 1])
+                end
+            end
+            redis.call('SET', KEYS[#KEYS], ARGV[2], 'EX', ttl)
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+    private final CuriousRepository curiousRepository;
+
+    public void increase(
+            final Long moimId,
+            final Long postId,
+            final Long writerNameId,
+            final LocalDate curiousDate
+    ) {
+        try {
+            addScore(postKey(moimId, curiousDate), postId, 1);
+            addScore(writerKey(moimId, curiousDate), writerNameId, 1);
+        } catch (RedisException e) {
+            log.error("인기 글 순위 반영 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    /*
+    궁금해요 취소는 DELETE 한 번으로 끝내므로 취소된 궁금해요의 날짜를 알 수 없다.
+    그 글의 점수가 남아 있는 가장 최근 버킷에서 빼며, 윈도우 밖의 궁금해요를 취소해 생긴 오차는 표시 키가 만료되어 다시 채울 때 맞춰진다.
+     */
+    public void decrease(
+            final Long moimId,
+            final Long postId,
+            final Long writerNameId
+    ) {
+        List<LocalDate> dates = new ArrayList<>(window());
+        Collections.reverse(dates);
+        List<Object> keys = new ArrayList<>();
+        dates.forEach(date -> {
+            keys.add(postKey(moimId, date));
+            keys.add(writerKey(moimId, date));
+        });
+        try {
+            script().eval(
+                    postKey(moimId, dates.get(0)),
+                    RScript.Mode.READ_WRITE,
+                    DECREASE_LATEST_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    keys,
+                    String.valueOf(postId),
+                    String.valueOf(writerNameId)
+            );
+        } catch (RedisException e) {
+            log.error("인기 글 순위 반영 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    public void removePost(
+            final Long moimId,
+            final Long postId,
+            final Long writerNameId
+    ) {
+        try {
+            for (LocalDate date : window()) {
+                script().eval(
+                        postKey(moimId, date),
+                        RScript.Mode.READ_WRITE,
+                        REMOVE_POST_SCRIPT,
+                        RScript.ReturnType.INTEGER,
+                        List.<Object>of(postKey(moimId, date), writerKey(moimId, date)),
+                        String.valueOf(postId),
+                        String.valueOf(writerNameId)
+                );
+            }
+        } catch (RedisException e) {
+            log.error("인기 글 순위 반영 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    public boolean isLoaded(final Long moimId) {
+        return redissonClient.getBucket(LOADED_KEY + moimId, StringCodec.INSTANCE).isExists();
+    }
+
+    public List<Long> getTopPostIds(
+            final Long moimId,
+            final int size
+    ) {
+        return getTop(POST_KEY, moimId, size);
+    }
+
+    public List<Long> getTopWriterNameIds(
+            final Long moimId,
+            final int size
+    ) {
+        return getTop(WRITER_KEY, moimId, size);
+    }
+
+    /*
+    Redis 에 순위 정보가 없을 때(최초 기동, 데이터 유실, 표시 키 만료) DB 의 최근 7일 궁금해요로 다시 채운다.
+    글모임 별 잠금을 잡은 노드만 임시 키에 채운 뒤 한 번에 운영 키와 교체하므로, 동시에 반영된 증감이 두 번 더해지지 않는다.
+    DB 조회 이후 교체 전까지 반영된 증감은 빠질 수 있지만, 표시 키가 BUCKET_TTL 뒤 만료되면 다시 채워지며 맞춰진다.
+     */
+    public void rebuild(final Moim moim) {
+        final Long moimId = moim.getId();
+        RLock lock = redissonClient.getLock(REBUILD_LOCK + moimId);
+        if (!tryLock(lock)) {
+            return;
+        }
+        try {
+            if (isLoaded(moimId)) {
+                return;
+            }
+            List<PostCuriousHistory> histories = curiousRepository.findCuriousHistoriesOfMoim(
+                    moim, LocalDate.now().minusDays(WINDOW_DAYS - 1).atStartOfDay()
+            );
+            List<Object> keys = new ArrayList<>();
+            for (LocalDate date : window()) {
+                List<PostCuriousHistory> historiesOfDate = histories.stream()
+                        .filter(history -> history.createdAt().toLocalDate().equals(date))
+                        .toList();
+                keys.addAll(fill(postKey(moimId, date), historiesOfDate, PostCuriousHistory::postId));
+                keys.addAll(fill(writerKey(moimId, date), historiesOfDate, PostCuriousHistory::writerNameId));
+            }
+            keys.add(LOADED_KEY + moimId);
+            script().eval(
+                    LOADED_KEY + moimId,
+                    RScript.Mode.READ_WRITE,
+                    SWAP_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    keys,
+                    String.valueOf(BUCKET_TTL.toSeconds()),
+                    LocalDateTime.now().toString()
+            );
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /*
+    하루치 궁금해요를 임시 키에 한 번에 넣고 (임시 키, 운영 키) 쌍을 반환한다.
+     */
+    private List<String> fill(
+            final String key,
+            final List<PostCuriousHistory> histories,
+            final Function<PostCuriousHistory, Long> member
+    ) {
+        final String rebuildKey = key + REBUILD_SUFFIX;
+        RScoredSortedSet<String> rebuildSet = redissonClient.getScoredSortedSet(rebuildKey, StringCodec.INSTANCE);
+        rebuildSet.delete();
+        Map<String, Double> scores = histories.stream()
+                .collect(Collectors.groupingBy(history -> String.valueOf(member.apply(history)), Collectors.summingDouble(history -> 1)));
+        if (!scores.isEmpty()) {
+            rebuildSet.addAll(scores);
+            rebuildSet.expire(REBUILD_LEASE);
+        }
+        return List.of(rebuildKey, key);
+    }
+
+    private List<Long> getTop(
+            final String prefix,
+            final Long moimId,
+            final int size
+    ) {
+        List<Object> keys = new ArrayList<>();
+        keys.add(prefix + moimId + UNION_SUFFIX);
+        window().forEach(date -> keys.add(key(prefix, moimId, date)));
+        List<Object> result = script().eval(
+                prefix + moimId + UNION_SUFFIX,
+                RScript.Mode.READ_WRITE,
+                TOP_SCRIPT,
+                RScript.ReturnType.MULTI,
+                keys,
+                String.valueOf(size)
+        );
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            scores.put(Long.valueOf(result.get(i).toString()), Double.valueOf(result.get(i + 1).toString()));
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void addScore(
+            final String key,
+            final Long member,
+            final double delta
+    ) {
+        script().eval(
+                key,
+                RScript.Mode.READ_WRITE,
+                ADD_SCORE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(key),
+                String.valueOf(delta),
+                String.valueOf(member),
+                String.valueOf(BUCKET_TTL.toSeconds())
+        );
+    }
+
+    private boolean tryLock(final RLock lock) {
+        try {
+            return lock.tryLock(0, REBUILD_LEASE.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void unlock(final RLock lock) {
+        try {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        } catch (RedisException e) {
+            log.error("인기 글 순위 재적재 잠금 해제 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+
+    private List<LocalDate> window() {
+        LocalDate today = LocalDate.now();
+        return today.minusDays(WINDOW_DAYS - 1).datesUntil(today.plusDays(1)).toList();
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private String postKey(
+            final Long moimId,
+            final LocalDate date
+    ) {
+        return key(POST_KEY, moimId, date);
+    }
+
+    private String writerKey(
+            final Long moimId,
+            final LocalDate date
+    ) {
+        return key(WRITER_KEY, moimId, date);
+    }
+
+    private String key(
+            final String prefix,
+            final Long moimId,
+            final LocalDate date
+    ) {
+        return prefix + moimId + ":" + date.format(BUCKET_FORMAT);
+    }
+}
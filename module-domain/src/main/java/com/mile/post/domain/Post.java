@@ -4,7 +4,6 @@ import com.mile.common.config.BaseTimeEntity;
 import com.mile.post.service.dto.request.PostPutRequest;
 import com.mile.topic.domain.Topic;
 import com.mile.writername.domain.WriterName;
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -17,12 +16,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor
+@DynamicUpdate
 public class Post extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,37 +33,20 @@ public class Post extends BaseTimeEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private WriterName writerName;
     private String title;
-    @Column(length = 50000)
-    private String content;
     private String imageUrl;
     @Setter
     private String idUrl;
     private int curiousCount;
     private int hitsCount;
+    private int commentCount;
     private boolean containPhoto;
     private boolean anonymous;
     private boolean isTemporary;
 
-    public void increaseCuriousCount() {
-        this.curiousCount++;
-    }
-
-    public void decreaseCuriousCount() {
-        this.curiousCount--;
-        setCuriousCountZero();
-    }
-
-    private void setCuriousCountZero() {
-        if (this.curiousCount < 0) {
-            this.curiousCount = 0;
-        }
-    }
-
     public static Post create(
             final Topic topic,
             final WriterName writerName,
             final String title,
-            final String content,
             final String imageUrl,
             final boolean containPhoto,
             final boolean anonymous,
@@ -73,20 +57,16 @@ public class Post extends BaseTimeEntity {
                 .topic(topic)
                 .writerName(writerName)
                 .title(title)
-                .content(content)
                 .imageUrl(returnImageUrl(imageUrl, containPhoto))
                 .curiousCount(0)
                 .hitsCount(0)
+                .commentCount(0)
                 .containPhoto(containPhoto)
                 .anonymous(anonymous)
                 .isTemporary(isTemporary)
                 .build();
     }
 
-    public void increaseHits() {
-        this.hitsCount++;
-    }
-
     public void updatePost(
             final Topic topic,
             final PostPutRequest putRequest
@@ -94,7 +74,6 @@ public class Post extends BaseTimeEntity {
         final String DEFAULT_IMAGE = "https://mile-s3.s3.ap-northeast-2.amazonaws.com/test/groupMile.png";
         this.topic = topic;
         this.title = putRequest.title();
-        this.content = putRequest.content();
         this.imageUrl = putRequest.imageUrl();
         if (!putRequest.imageUrl().equals(DEFAULT_IMAGE)) {
             this.containPhoto = true;
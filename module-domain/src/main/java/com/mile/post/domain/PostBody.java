@@ -0,0 +1,56 @@
+package com.mile.post.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 글 본문
+ * <p>
+ * 목록/집계 쿼리가 글을 읽을 때마다 긴 본문까지 함께 읽지 않도록 글과 같은 ID 를 쓰는 별도 테이블에 저장한다.
+ * 본문은 글 상세, 수정, 임시 저장 글 조회처럼 본문이 필요한 곳에서만 PostBodyRetriever 로 읽는다.
+ * 본문은 PostContentConverter 로 압축해 바이너리 컬럼에 저장한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_body")
+public class PostBody {
+
+    // 본문 최대 50000자를 UTF-8 로 저장해도 들어가도록 바이트 기준으로 잡는다.
+    private static final int MAX_CONTENT_BYTES = 50000 * 4 + 1;
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Convert(converter = PostContentConverter.class)
+    @Column(length = MAX_CONTENT_BYTES)
+    private String content;
+
+    private PostBody(
+            final Long postId,
+            final String content
+    ) {
+        this.postId = postId;
+        this.content = content;
+    }
+
+    public static PostBody of(
+            final Long postId,
+            final String content
+    ) {
+        return new PostBody(postId, content);
+    }
+
+    public void updateContent(
+            final String content
+    ) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,112 @@
+package com.mile.post.domain;
+
+import com.mile.common.utils.HtmlTextExtractor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 글 목록 화면에서 쓰는 글 카드
+ * <p>
+ * 본문 대신 태그를 제거한 앞부분 EXCERPT_LENGTH 글자와 목록에 필요한 값만 저장해, 목록 조회가 글 본문을 읽지 않도록 한다.
+ * 임시 저장 글은 카드를 만들지 않고, 글이 게시될 때 만들어진다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
+@Table(
+        name = "post_card",
+        indexes = {
+                @Index(name = "idx_post_card_topic_id", columnList = "topic_id, post_id"),
+                @Index(name = "idx_post_card_moim_id_created_at", columnList = "moim_id, post_created_at"),
+                @Index(name = "idx_post_card_moim_id_curious_count", columnList = "moim_id, curious_count")
+        }
+)
+public class PostCard {
+
+    private static final int EXCERPT_LENGTH = 400;
+    private static final String UNNAMED = "작자미상";
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false, name = "moim_id")
+    private Long moimId;
+
+    @Column(nullable = false, name = "topic_id")
+    private Long topicId;
+
+    @Column(nullable = false)
+    private Long writerNameId;
+
+    private String idUrl;
+    private String title;
+
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    private String topicName;
+    private String writerName;
+    private String imageUrl;
+    private boolean containPhoto;
+    private int curiousCount;
+    private int hitsCount;
+    private int commentCount;
+
+    @Column(name = "post_created_at")
+    private LocalDateTime postCreatedAt;
+
+    private LocalDateTime updatedAt;
+
+    private PostCard(final Long postId) {
+        this.postId = postId;
+    }
+
+    public static PostCard of(
+            final Post post,
+            final String content
+    ) {
+        PostCard postCard = new PostCard(post.getId());
+        postCard.update(post, content);
+        postCard.curiousCount = post.getCuriousCount();
+        postCard.hitsCount = post.getHitsCount();
+        postCard.commentCount = post.getCommentCount();
+        return postCard;
+    }
+
+    /*
+    글 수정/게시 시점에 글의 값으로 카드를 다시 채운다.
+    궁금해요/조회/댓글 수는 원자적 증감으로만 바뀌므로, 영속성 컨텍스트의 오래된 값으로 덮어쓰지 않도록 여기서 건드리지 않는다.
+     */
+    public void update(
+            final Post post,
+            final String content
+    ) {
+        this.moimId = post.getTopic().getMoim().getId();
+        this.topicId = post.getTopic().getId();
+        this.writerNameId = post.getWriterName().getId();
+        this.idUrl = post.getIdUrl();
+        this.title = post.getTitle();
+        this.excerpt = toExcerpt(content);
+        this.topicName = post.getTopic().getContent();
+        this.writerName = post.isAnonymous() ? UNNAMED : post.getWriterName().getName();
+        this.imageUrl = post.getImageUrl();
+        this.containPhoto = post.isContainPhoto();
+        this.postCreatedAt = post.getCreatedAt();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    private static String toExcerpt(final String content) {
+        return HtmlTextExtractor.toPlainText(content, EXCERPT_LENGTH);
+    }
+}
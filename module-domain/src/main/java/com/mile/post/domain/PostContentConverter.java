@@ -0,0 +1,50 @@
+package com.mile.post.domain;
+
+import com.mile.common.utils.CompressUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+글 본문을 CompressUtil 형식으로 압축해 저장한다.
+컨버터는 Hibernate 가 생성하므로 MeterRegistry 를 주입받지 않고, 스프링이 등록하는 전역 레지스트리에 지표를 남긴다.
+ */
+@Converter
+public class PostContentConverter implements AttributeConverter<String, byte[]> {
+
+    private static final String CODEC_METRIC_NAME = "post.content.codec";
+
+    private static final Timer ENCODE_TIMER = Timer.builder(CODEC_METRIC_NAME)
+            .tag("operation", "encode")
+            .description("글 본문 압축에 걸린 시간")
+            .register(Metrics.globalRegistry);
+    private static final Timer DECODE_TIMER = Timer.builder(CODEC_METRIC_NAME)
+            .tag("operation", "decode")
+            .description("글 본문 압축 해제에 걸린 시간")
+            .register(Metrics.globalRegistry);
+    private static final DistributionSummary COMPRESSION_RATIO = DistributionSummary.builder("post.content.compression.ratio")
+            .description("저장된 크기 대비 원본 UTF-8 크기의 비율")
+            .register(Metrics.globalRegistry);
+
+    @Override
+    public byte[] convertToDatabaseColumn(final String content) {
+        if (content == null) {
+            return null;
+        }
+        byte[] encoded = ENCODE_TIMER.record(() -> CompressUtil.encode(content));
+        if (encoded.length > 0) {
+            COMPRESSION_RATIO.record((double) CompressUtil.decodedLength(encoded) / encoded.length);
+        }
+        return encoded;
+    }
+
+    @Override
+    public String convertToEntityAttribute(final byte[] encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        return DECODE_TIMER.record(() -> CompressUtil.decode(encoded));
+    }
+}
@@ -0,0 +1,66 @@
+package com.mile.post.repository;
+
+import com.mile.post.domain.PostBody;
+import com.mile.post.repository.dto.LegacyPostContent;
+import com.mile.topic.domain.Topic;
+import com.mile.writername.domain.WriterName;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PostBodyRepository extends JpaRepository<PostBody, Long> {
+
+    List<PostBody> findAllByPostIdIn(final List<Long> postIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostBody b WHERE b.postId IN (SELECT p.id FROM Post p WHERE p.topic = :topic)")
+    void deleteByTopic(@Param("topic") Topic topic);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostBody b WHERE b.postId IN (SELECT p.id FROM Post p WHERE p.writerName = :writerName)")
+    void deleteByWriterName(@Param("writerName") WriterName writerName);
+
+    /*
+    post.content 컬럼에 남아 있는 기존 본문을 post_body 로 옮긴다. 이미 옮긴 글은 건너뛰므로 여러 번 실행해도 된다.
+    옮긴 본문은 형식 표시 바이트 없는 UTF-8 텍스트로 저장되며, PostContentConverter 가 그대로 읽는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO post_body (post_id, content)
+        SELECT p.id, p.content
+        FROM post p
+        WHERE p.id BETWEEN :fromId AND :toId
+        AND p.content IS NOT NULL
+        AND NOT EXISTS (SELECT 1 FROM post_body b WHERE b.post_id = p.id)
+    """, nativeQuery = true)
+    int copyLegacyContentBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query(value = "SELECT p.content FROM post p WHERE p.id = :postId AND p.content IS NOT NULL", nativeQuery = true)
+    Optional<String> findLegacyContentByPostId(@Param("postId") Long postId);
+
+    @Query(value = "SELECT p.id AS postId, p.content AS content FROM post p WHERE p.id IN (:postIds) AND p.content IS NOT NULL", nativeQuery = true)
+    List<LegacyPostContent> findLegacyContentsByPostIds(@Param("postIds") List<Long> postIds);
+
+    /*
+    읽기 전용 트랜잭션 안에서 호출되어도 쓸 수 있도록 별도 트랜잭션에서 옮긴다. 동시에 옮겨도 한 행만 남도록 IGNORE 를 쓴다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO post_body (post_id, content)
+        SELECT p.id, p.content
+        FROM post p
+        WHERE p.id = :postId
+        AND p.content IS NOT NULL
+    """, nativeQuery = true)
+    int copyLegacyContent(@Param("postId") Long postId);
+}
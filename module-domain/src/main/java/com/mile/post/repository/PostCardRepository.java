@@ -0,0 +1,99 @@
+package com.mile.post.repository;
+
+import com.mile.post.domain.PostCard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface PostCardRepository extends JpaRepository<PostCard, Long> {
+
+    @Query("SELECT c FROM PostCard c WHERE c.topicId = :topicId ORDER BY c.postId DESC")
+    List<PostCard> findFirstPageByTopicId(@Param("topicId") final Long topicId, final Pageable pageable);
+
+    @Query("SELECT c FROM PostCard c WHERE c.topicId = :topicId AND c.postId < :lastPostId ORDER BY c.postId DESC")
+    List<PostCard> findPageByTopicIdAfter(
+            @Param("topicId") final Long topicId,
+            @Param("lastPostId") final Long lastPostId,
+            final Pageable pageable
+    );
+
+    List<PostCard> findTop4ByMoimIdOrderByPostCreatedAtDesc(final Long moimId);
+
+    List<PostCard> findTop2ByMoimIdAndCuriousCountGreaterThanOrderByCuriousCountDesc(final Long moimId, final int curiousCount);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostCard c SET c.curiousCount = c.curiousCount + 1 WHERE c.postId = :postId")
+    void increaseCuriousCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostCard c SET c.curiousCount = c.curiousCount - 1 WHERE c.postId = :postId AND c.curiousCount > 0")
+    void decreaseCuriousCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostCard c SET c.hitsCount = c.hitsCount + :count WHERE c.postId IN :postIds")
+    void increaseHitsCount(@Param("postIds") List<Long> postIds, @Param("count") int count);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostCard c SET c.commentCount = c.commentCount + 1 WHERE c.postId = :postId")
+    void increaseCommentCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostCard c SET c.commentCount = CASE WHEN c.commentCount > :count THEN c.commentCount - :count ELSE 0 END WHERE c.postId = :postId")
+    void decreaseCommentCount(@Param("postId") Long postId, @Param("count") int count);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE PostCard c
+        SET c.curiousCount = (SELECT p.curiousCount FROM Post p WHERE p.id = c.postId),
+            c.hitsCount = (SELECT p.hitsCount FROM Post p WHERE p.id = c.postId),
+            c.commentCount = (SELECT p.commentCount FROM Post p WHERE p.id = c.postId)
+        WHERE c.postId IN :postIds
+    """)
+    int syncCounts(@Param("postIds") List<Long> postIds);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE PostCard c
+        SET c.curiousCount = (SELECT p.curiousCount FROM Post p WHERE p.id = c.postId),
+            c.hitsCount = (SELECT p.hitsCount FROM Post p WHERE p.id = c.postId),
+            c.commentCount = (SELECT p.commentCount FROM Post p WHERE p.id = c.postId)
+        WHERE c.postId BETWEEN :fromId AND :toId
+    """)
+    int syncCountsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostCard c SET c.topicName = :topicName WHERE c.topicId = :topicId")
+    void updateTopicName(@Param("topicId") Long topicId, @Param("topicName") String topicName);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        DELETE FROM PostCard c
+        WHERE c.postId BETWEEN :fromId AND :toId
+        AND NOT EXISTS (SELECT p FROM Post p WHERE p.id = c.postId AND p.isTemporary = false)
+    """)
+    int deleteOrphansBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostCard c WHERE c.topicId = :topicId")
+    void deleteByTopicId(@Param("topicId") Long topicId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostCard c WHERE c.writerNameId = :writerNameId")
+    void deleteByWriterNameId(@Param("writerNameId") Long writerNameId);
+}
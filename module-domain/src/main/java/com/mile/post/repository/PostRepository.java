@@ -1,37 +1,105 @@
 package com.mile.post.repository;
 
-import com.mile.moim.domain.Moim;
 import com.mile.post.domain.Post;
+import com.mile.post.repository.dto.PostIdUrlPair;
 import com.mile.topic.domain.Topic;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.mile.writername.domain.WriterName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
     boolean existsPostByIdAndWriterNameId(final Long postId, final Long userId);
 
+    /*
+    MySQL 드라이버가 결과를 한 번에 메모리에 올리지 않고 행 단위로 읽도록 fetch size 를 Integer.MIN_VALUE 로 준다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query("""
-        SELECT p
+        SELECT new com.mile.post.repository.dto.PostIdUrlPair(m.idUrl, p.idUrl)
         FROM Post p
-        WHERE p.topic.moim = :moim
-        AND p.isTemporary = false
+        JOIN p.topic t
+        JOIN t.moim m
+        WHERE p.isTemporary = false
+        ORDER BY m.id, p.id
     """)
-    List<Post> findAllByMoim(final Moim moim);
-    List<Post> findByTopic(final Topic topic);
+    Stream<PostIdUrlPair> streamAllPublishedIdUrlPairs();
 
-    int countByWriterNameId(final Long writerNameId);
+    List<Post> findByTopic(final Topic topic);
 
     @Transactional
     @Modifying
     @Query("DELETE FROM Post p WHERE p.topic = :topic")
     void deleteByTopic(@Param("topic") Topic topic);
 
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.hitsCount = p.hitsCount + :count WHERE p.id IN :postIds")
+    void increaseHitsCount(@Param("postIds") List<Long> postIds, @Param("count") int count);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.curiousCount = p.curiousCount + 1 WHERE p.id = :postId")
+    void increaseCuriousCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.curiousCount = p.curiousCount - 1 WHERE p.id = :postId AND p.curiousCount > 0")
+    void decreaseCuriousCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    void increaseCommentCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount > :count THEN p.commentCount - :count ELSE 0 END WHERE p.id = :postId")
+    void decreaseCommentCount(@Param("postId") Long postId, @Param("count") int count);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Post p
+        SET p.commentCount = (SELECT count(c) FROM Comment c WHERE c.post.id = p.id)
+            + (SELECT count(r) FROM CommentReply r WHERE r.comment.post.id = p.id)
+        WHERE p.id IN :postIds
+    """)
+    int recountCommentCount(@Param("postIds") List<Long> postIds);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Post p
+        SET p.commentCount = (SELECT count(c) FROM Comment c WHERE c.post.id = p.id)
+            + (SELECT count(r) FROM CommentReply r WHERE r.comment.post.id = p.id)
+        WHERE p.id BETWEEN :fromId AND :toId
+    """)
+    int recountCommentCountBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.curiousCount = (SELECT count(c) FROM Curious c WHERE c.post.id = p.id) WHERE p.id BETWEEN :fromId AND :toId")
+    int recountCuriousCountBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.topic t JOIN FETCH t.moim JOIN FETCH p.writerName WHERE p.id BETWEEN :fromId AND :toId AND p.isTemporary = false")
+    List<Post> findPublishedWithTopicAndWriterNameBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT max(p.id) FROM Post p")
+    Long findMaxId();
+
     @Transactional
     @Modifying
     @Query("DELETE FROM Post  p WHERE p.writerName = :writerName")
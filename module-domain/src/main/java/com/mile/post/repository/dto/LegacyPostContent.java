@@ -0,0 +1,7 @@
+package com.mile.post.repository.dto;
+
+public interface LegacyPostContent {
+    Long getPostId();
+
+    String getContent();
+}
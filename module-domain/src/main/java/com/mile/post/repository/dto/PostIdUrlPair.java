@@ -0,0 +1,7 @@
+package com.mile.post.repository.dto;
+
+public record PostIdUrlPair(
+        String moimIdUrl,
+        String postIdUrl
+) {
+}
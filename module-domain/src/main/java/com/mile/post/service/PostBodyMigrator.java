@@ -0,0 +1,41 @@
+package com.mile.post.service;
+
+import com.mile.common.batch.IdRangeBatchRunner;
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.ConflictException;
+import com.mile.post.repository.PostBodyRepository;
+import com.mile.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * post.content 컬럼에 저장된 기존 글 본문을 ID 구간 단위로 post_body 테이블로 옮긴다.
+ * <p>
+ * 배포 직후 한 번 실행하며, 이미 옮긴 글은 건너뛰므로 중간에 실패해도 다시 실행하면 된다.
+ * 여러 노드에서 겹쳐 실행되지 않도록 잠금을 잡는다. 이 작업은 본문을 복사만 하며, post.content 컬럼은 모든 글이 옮겨진 것을 확인한 뒤 따로 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostBodyMigrator {
+
+    private static final String JOB_NAME = "글 본문 이전";
+    private static final Duration MIGRATE_LEASE = Duration.ofHours(1);
+    private static final String MIGRATE_LOCK = "POST_BODY_MIGRATE_LOCK";
+
+    private final PostRepository postRepository;
+    private final PostBodyRepository postBodyRepository;
+    private final IdRangeBatchRunner idRangeBatchRunner;
+
+    public int migrate() {
+        if (!idRangeBatchRunner.tryAcquireLease(JOB_NAME, MIGRATE_LOCK, MIGRATE_LEASE)) {
+            throw new ConflictException(ErrorMessage.BATCH_ALREADY_RUNNING);
+        }
+        try {
+            return idRangeBatchRunner.run(JOB_NAME, postRepository.findMaxId(), postBodyRepository::copyLegacyContentBetween);
+        } finally {
+            idRangeBatchRunner.releaseLease(JOB_NAME, MIGRATE_LOCK);
+        }
+    }
+}
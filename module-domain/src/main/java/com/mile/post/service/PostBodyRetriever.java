@@ -0,0 +1,68 @@
+package com.mile.post.service;
+
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.NotFoundException;
+import com.mile.post.domain.PostBody;
+import com.mile.post.repository.PostBodyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 글 본문을 post_body 에서 읽는다.
+ * <p>
+ * PostBodyMigrator 가 끝나기 전에는 아직 옮겨지지 않은 글이 있으므로, 본문이 없으면 기존 post.content 를 읽고 단건 조회라면 그 자리에서 옮긴다.
+ * post.content 컬럼을 삭제할 때 이 대체 경로도 함께 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostBodyRetriever {
+
+    private final PostBodyRepository postBodyRepository;
+
+    public String findContentByPostId(
+            final Long postId
+    ) {
+        return postBodyRepository.findById(postId)
+                .map(PostBody::getContent)
+                .or(() -> findLegacyContent(postId))
+                .orElseThrow(() -> new NotFoundException(ErrorMessage.POST_NOT_FOUND));
+    }
+
+    public Map<Long, String> findContentMapByPostIds(
+            final List<Long> postIds
+    ) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        final Map<Long, String> contentMap = new HashMap<>(postBodyRepository.findAllByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostBody::getPostId, PostBody::getContent)));
+        final List<Long> missingPostIds = postIds.stream().filter(postId -> !contentMap.containsKey(postId)).toList();
+        if (!missingPostIds.isEmpty()) {
+            postBodyRepository.findLegacyContentsByPostIds(missingPostIds)
+                    .forEach(legacy -> contentMap.put(legacy.getPostId(), legacy.getContent()));
+        }
+        return contentMap;
+    }
+
+    private Optional<String> findLegacyContent(
+            final Long postId
+    ) {
+        final Optional<String> legacyContent = postBodyRepository.findLegacyContentByPostId(postId);
+        legacyContent.ifPresent(content -> {
+            try {
+                postBodyRepository.copyLegacyContent(postId);
+            } catch (RuntimeException e) {
+                log.error("글 본문 이전 중 에러 발생 -> {}", e.getMessage());
+            }
+        });
+        return legacyContent;
+    }
+}
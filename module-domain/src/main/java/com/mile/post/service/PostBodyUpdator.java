@@ -0,0 +1,50 @@
+package com.mile.post.service;
+
+import com.mile.post.domain.PostBody;
+import com.mile.post.repository.PostBodyRepository;
+import com.mile.topic.domain.Topic;
+import com.mile.writername.domain.WriterName;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostBodyUpdator {
+
+    private final PostBodyRepository postBodyRepository;
+
+    public void create(
+            final Long postId,
+            final String content
+    ) {
+        postBodyRepository.save(PostBody.of(postId, content));
+    }
+
+    public void update(
+            final Long postId,
+            final String content
+    ) {
+        postBodyRepository.findById(postId).ifPresentOrElse(
+                postBody -> postBody.updateContent(content),
+                () -> create(postId, content)
+        );
+    }
+
+    public void delete(
+            final Long postId
+    ) {
+        postBodyRepository.deleteById(postId);
+    }
+
+    public void deleteByTopic(
+            final Topic topic
+    ) {
+        postBodyRepository.deleteByTopic(topic);
+    }
+
+    public void deleteByWriterName(
+            final WriterName writerName
+    ) {
+        postBodyRepository.deleteByWriterName(writerName);
+    }
+}
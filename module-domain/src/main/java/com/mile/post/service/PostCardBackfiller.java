@@ -0,0 +1,73 @@
+package com.mile.post.service;
+
+import com.mile.common.batch.IdRangeBatchRunner;
+import com.mile.exception.message.ErrorMessage;
+import com.mile.exception.model.ConflictException;
+import com.mile.post.domain.Post;
+import com.mile.post.repository.PostCardRepository;
+import com.mile.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시된 글 전체를 ID 구간 단위로 읽어 글 카드를 다시 만든다.
+ * <p>
+ * post_card 테이블이 비어 있으면 기동 시 자동으로 실행하고, 카드 형식이 바뀐 뒤에는 내부 API 로 다시 실행한다.
+ * 이미 있는 카드는 갱신하고 글이 사라진 카드는 지우며, 여러 노드에서 겹쳐 실행되지 않도록 잠금을 잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCardBackfiller {
+
+    private static final String JOB_NAME = "글 카드 재생성";
+    private static final long BATCH_SIZE = 500L;
+    private static final Duration BACKFILL_LEASE = Duration.ofHours(1);
+    private static final String BACKFILL_LOCK = "POST_CARD_BACKFILL_LOCK";
+
+    private final PostRepository postRepository;
+    private final PostCardRepository postCardRepository;
+    private final PostCardUpdator postCardUpdator;
+    private final PostBodyRetriever postBodyRetriever;
+    private final IdRangeBatchRunner idRangeBatchRunner;
+
+    /*
+    카드가 하나도 없으면 글 목록이 비어 보이므로, 배포 직후 첫 기동에서 한 번 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (postCardRepository.count() > 0 || !idRangeBatchRunner.tryAcquireLease(JOB_NAME, BACKFILL_LOCK, BACKFILL_LEASE)) {
+            return;
+        }
+        try {
+            backfillBetweenIds();
+        } finally {
+            idRangeBatchRunner.releaseLease(JOB_NAME, BACKFILL_LOCK);
+        }
+    }
+
+    public int backfill() {
+        if (!idRangeBatchRunner.tryAcquireLease(JOB_NAME, BACKFILL_LOCK, BACKFILL_LEASE)) {
+            throw new ConflictException(ErrorMessage.BATCH_ALREADY_RUNNING);
+        }
+        try {
+            return backfillBetweenIds();
+        } finally {
+            idRangeBatchRunner.releaseLease(JOB_NAME, BACKFILL_LOCK);
+        }
+    }
+
+    private int backfillBetweenIds() {
+        return idRangeBatchRunner.run(JOB_NAME, postRepository.findMaxId(), BATCH_SIZE, (fromId, toId) -> {
+            List<Post> posts = postRepository.findPublishedWithTopicAndWriterNameBetween(fromId, toId);
+            List<Long> postIds = posts.stream().map(Post::getId).toList();
+            int syncedCount = postCardUpdator.syncAll(posts, postBodyRetriever.findContentMapByPostIds(postIds));
+            postCardRepository.deleteOrphansBetween(fromId, toId);
+            return syncedCount;
+        });
+    }
+}
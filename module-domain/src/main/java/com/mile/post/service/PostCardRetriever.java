@@ -0,0 +1,76 @@
+package com.mile.post.service;
+
+import com.mile.moim.domain.Moim;
+import com.mile.moim.domain.popular.MoimCuriousPost;
+import com.mile.moim.service.dto.response.MoimCuriousPostListResponse;
+import com.mile.moim.service.dto.response.MoimMostCuriousPostResponse;
+import com.mile.post.domain.PostCard;
+import com.mile.post.repository.PostCardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class PostCardRetriever {
+
+    private static final int POST_BY_TOPIC_PER_PAGE_SIZE = 6;
+    private static final int MIN_CURIOUS_COUNT = 0;
+
+    private final PostCardRepository postCardRepository;
+
+    public Slice<PostCard> findByTopicAndLastPostId(
+            final Long topicId,
+            final Long lastPostId
+    ) {
+        Pageable pageable = PageRequest.of(0, POST_BY_TOPIC_PER_PAGE_SIZE + 1);
+        List<PostCard> postCards = new ArrayList<>(lastPostId == null
+                ? postCardRepository.findFirstPageByTopicId(topicId, pageable)
+                : postCardRepository.findPageByTopicIdAfter(topicId, lastPostId, pageable));
+        boolean hasNext = postCards.size() > POST_BY_TOPIC_PER_PAGE_SIZE;
+        if (hasNext) {
+            postCards.remove(POST_BY_TOPIC_PER_PAGE_SIZE);
+        }
+        return new SliceImpl<>(postCards, PageRequest.of(0, POST_BY_TOPIC_PER_PAGE_SIZE), hasNext);
+    }
+
+    public List<PostCard> findLatestByMoimId(
+            final Long moimId
+    ) {
+        return postCardRepository.findTop4ByMoimIdOrderByPostCreatedAtDesc(moimId);
+    }
+
+    public MoimCuriousPostListResponse getMostCuriousPostByMoim(final Moim moim) {
+        return MoimCuriousPostListResponse.of(postCardRepository.findTop2ByMoimIdAndCuriousCountGreaterThanOrderByCuriousCountDesc(moim.getId(), MIN_CURIOUS_COUNT)
+                .stream()
+                .map(postCard -> MoimMostCuriousPostResponse.of(MoimCuriousPost.of(postCard)))
+                .toList());
+    }
+
+    /*
+    요청한 글 ID 순서를 유지해 반환한다.
+     */
+    public List<PostCard> findAllByPostIds(
+            final List<Long> postIds
+    ) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, PostCard> postCardMap = postCardRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(PostCard::getPostId, Function.identity()));
+        return postIds.stream()
+                .distinct()
+                .filter(postCardMap::containsKey)
+                .map(postCardMap::get)
+                .collect(Collectors.toList());
+    }
+}
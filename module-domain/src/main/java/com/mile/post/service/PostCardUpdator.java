@@ -0,0 +1,123 @@
+package com.mile.post.service;
+
+import com.mile.post.domain.Post;
+import com.mile.post.domain.PostCard;
+import com.mile.post.repository.PostCardRepository;
+import com.mile.topic.domain.Topic;
+import com.mile.writername.domain.WriterName;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PostCardUpdator {
+
+    private final PostCardRepository postCardRepository;
+
+    public void create(
+            final Post post,
+            final String content
+    ) {
+        postCardRepository.save(PostCard.of(post, content));
+    }
+
+    /*
+    게시된 글이 수정되거나 임시 저장 글이 게시될 때 호출되며, 카드가 없으면 새로 만든다.
+     */
+    public void sync(
+            final Post post,
+            final String content
+    ) {
+        postCardRepository.findById(post.getId()).ifPresentOrElse(
+                postCard -> postCard.update(post, content),
+                () -> create(post, content)
+        );
+    }
+
+    /*
+    본문이 아직 post_body 로 옮겨지지 않은 글은 건너뛴다.
+     */
+    @Transactional
+    public int syncAll(
+            final List<Post> posts,
+            final Map<Long, String> contentMap
+    ) {
+        int syncedCount = 0;
+        for (Post post : posts) {
+            String content = contentMap.get(post.getId());
+            if (content != null) {
+                sync(post, content);
+                syncedCount++;
+            }
+        }
+        return syncedCount;
+    }
+
+    public void delete(
+            final Post post
+    ) {
+        postCardRepository.deleteById(post.getId());
+    }
+
+    public void deleteByTopic(
+            final Topic topic
+    ) {
+        postCardRepository.deleteByTopicId(topic.getId());
+    }
+
+    public void deleteByWriterName(
+            final WriterName writerName
+    ) {
+        postCardRepository.deleteByWriterNameId(writerName.getId());
+    }
+
+    public void updateTopicName(
+            final Topic topic
+    ) {
+        postCardRepository.updateTopicName(topic.getId(), topic.getContent());
+    }
+
+    public void increaseCuriousCount(
+            final Long postId
+    ) {
+        postCardRepository.increaseCuriousCount(postId);
+    }
+
+    public void decreaseCuriousCount(
+            final Long postId
+    ) {
+        postCardRepository.decreaseCuriousCount(postId);
+    }
+
+    public void increaseHitsCount(
+            final List<Long> postIds,
+            final int count
+    ) {
+        postCardRepository.increaseHitsCount(postIds, count);
+    }
+
+    public void increaseCommentCount(
+            final Long postId
+    ) {
+        postCardRepository.increaseCommentCount(postId);
+    }
+
+    public void decreaseCommentCount(
+            final Long postId,
+            final int count
+    ) {
+        postCardRepository.decreaseCommentCount(postId, count);
+    }
+
+    public void syncCounts(
+            final List<Long> postIds
+    ) {
+        if (!postIds.isEmpty()) {
+            postCardRepository.syncCounts(postIds);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.mile.post.service;
+
+import com.mile.common.batch.IdRangeBatchRunner;
+import com.mile.post.repository.PostCardRepository;
+import com.mile.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 글의 댓글 수(댓글 + 답글) 비정규화 값을 실제 댓글/답글 수로 다시 맞춘다.
+ * <p>
+ * 댓글 수는 생성/삭제 시점에 원자적으로 증감하지만, 일괄 삭제나 장애로 어긋난 값은 이 작업이 매일 새벽 ID 구간 단위로 바로잡는다.
+ * 같은 구간의 글 카드 궁금해요/조회/댓글 수도 글의 값으로 함께 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCommentCountReconciler {
+
+    private static final String JOB_NAME = "글 댓글 수 보정";
+    private static final Duration RECONCILE_LEASE = Duration.ofMinutes(30);
+    private static final String RECONCILE_LOCK = "POST_COMMENT_COUNT_RECONCILE_LOCK";
+
+    private final PostRepository postRepository;
+    private final PostCardRepository postCardRepository;
+    private final IdRangeBatchRunner idRangeBatchRunner;
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileForScheduled() {
+        if (!idRangeBatchRunner.tryAcquireLease(JOB_NAME, RECONCILE_LOCK, RECONCILE_LEASE)) {
+            return;
+        }
+        reconcile();
+    }
+
+    public int reconcile() {
+        return idRangeBatchRunner.run(JOB_NAME, postRepository.findMaxId(), (fromId, toId) -> {
+            int updatedCount = postRepository.recountCommentCountBetween(fromId, toId);
+            postCardRepository.syncCountsBetween(fromId, toId);
+            return updatedCount;
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.mile.post.service;
 
+import com.mile.moim.service.activity.MoimDailyActivityUpdator;
+import com.mile.moim.service.best.BestMoimSnapshotService;
 import com.mile.post.domain.Post;
 import com.mile.post.repository.PostRepository;
 import com.mile.post.service.dto.request.PostCreateRequest;
@@ -7,6 +9,7 @@ import com.mile.post.service.dto.request.TemporaryPostCreateRequest;
 import com.mile.topic.domain.Topic;
 import com.mile.common.utils.SecureUrlUtil;
 import com.mile.writername.domain.WriterName;
+import com.mile.writername.service.WriterNameUpdator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +20,11 @@ import java.util.Base64;
 public class PostCreator {
     private final PostRepository postRepository;
     private final SecureUrlUtil secureUrlUtil;
+    private final MoimDailyActivityUpdator moimDailyActivityUpdator;
+    private final BestMoimSnapshotService bestMoimSnapshotService;
+    private final WriterNameUpdator writerNameUpdator;
+    private final PostCardUpdator postCardUpdator;
+    private final PostBodyUpdator postBodyUpdator;
     private static final boolean TEMPORARY_TRUE = true;
     private static final String DEFAULT_IMG_URL = "https://mile-s3.s3.ap-northeast-2.amazonaws.com/test/groupMile.png";
     private static final boolean TEMPORARY_FALSE = false;
@@ -34,13 +42,14 @@ public class PostCreator {
                 topic, // Topic
                 writerName, // WriterName
                 temporaryPostCreateRequest.title(),
-                temporaryPostCreateRequest.content(),
                 temporaryPostCreateRequest.imageUrl(),
                 checkContainPhoto(temporaryPostCreateRequest.imageUrl()),
                 temporaryPostCreateRequest.anonymous(),
                 TEMPORARY_TRUE
         ));
         post.setIdUrl(Base64.getUrlEncoder().encodeToString(post.getId().toString().getBytes()));
+        postBodyUpdator.create(post.getId(), temporaryPostCreateRequest.content());
+        writerNameUpdator.increasePostCount(writerName);
     }
 
     public String create(final PostCreateRequest postCreateRequest, final Topic topic, final WriterName writerName) {
@@ -48,6 +57,11 @@ public class PostCreator {
         postRepository.save(post);
         post.setIdUrl(secureUrlUtil.encodeUrl(post.getId()));
         postRepository.save(post);
+        postBodyUpdator.create(post.getId(), postCreateRequest.content());
+        postCardUpdator.create(post, postCreateRequest.content());
+        writerNameUpdator.increasePostCount(writerName);
+        moimDailyActivityUpdator.increasePostCount(topic.getMoim().getId());
+        bestMoimSnapshotService.markStale();
         return post.getIdUrl();
     }
 
@@ -56,7 +70,6 @@ public class PostCreator {
                 topic,
                 writerName, // WriterName
                 postCreateRequest.title(),
-                postCreateRequest.content(),
                 postCreateRequest.imageUrl(),
                 checkContainPhoto(postCreateRequest.imageUrl()),
                 postCreateRequest.anonymous(),
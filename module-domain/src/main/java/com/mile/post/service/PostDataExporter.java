@@ -0,0 +1,57 @@
+package com.mile.post.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mile.post.repository.PostRepository;
+import com.mile.post.repository.dto.PostIdUrlPair;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 메타데이터 생성을 위해 글모임 별 게시 글 idUrl 목록을 내보낸다.
+ * <p>
+ * (글모임 idUrl, 글 idUrl) 쌍을 글모임 순으로 한 번에 조회하며 행 단위로 읽는 대로 JSON 에 쓰므로,
+ * 글 수와 관계없이 엔티티나 전체 목록을 메모리에 올리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDataExporter {
+
+    private static final String POST_LIST_MOIM_MAP = "postListMoimMap";
+
+    private final PostRepository postRepository;
+
+    /*
+    {"postListMoimMap": {"글모임 idUrl": ["글 idUrl", ...], ...}} 형태로 쓰며, 게시 글이 없는 글모임은 포함하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public void writePostListMoimMap(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart(POST_LIST_MOIM_MAP);
+        try (Stream<PostIdUrlPair> pairs = postRepository.streamAllPublishedIdUrlPairs()) {
+            String currentMoimIdUrl = null;
+            Iterator<PostIdUrlPair> iterator = pairs.iterator();
+            while (iterator.hasNext()) {
+                PostIdUrlPair pair = iterator.next();
+                if (!Objects.equals(pair.moimIdUrl(), currentMoimIdUrl)) {
+                    if (currentMoimIdUrl != null) {
+                        generator.writeEndArray();
+                    }
+                    currentMoimIdUrl = pair.moimIdUrl();
+                    generator.writeArrayFieldStart(currentMoimIdUrl);
+                }
+                generator.writeString(pair.postIdUrl());
+            }
+            if (currentMoimIdUrl != null) {
+                generator.writeEndArray();
+            }
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
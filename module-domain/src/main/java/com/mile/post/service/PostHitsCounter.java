@@ -0,0 +1,105 @@
+package com.mile.post.service;
+
+import com.mile.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 조회수를 요청마다 UPDATE 하지 않고 노드 메모리에 누적한 뒤 주기적으로 DB에 반영한다.
+ * <p>
+ * 비정상 종료 시 유실될 수 있는 조회수는 최대 FLUSH_DELAY 동안 누적된 값으로 제한된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostHitsCounter {
+
+    private static final long FLUSH_DELAY = 5000L;
+
+    private final PostRepository postRepository;
+    private final PostCardUpdator postCardUpdator;
+    private final Map<Long, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    /*
+    증가시킨 누적기가 그 사이 drain 에서 제거되었다면 맵에 남아 있는 누적기에 다시 더한다.
+    drain 은 합이 0인 누적기만 제거하므로, 증가가 끝난 뒤에도 맵에 남아 있다면 그 값은 다음 flush 에 반영된다.
+     */
+    public void increaseHits(final Long postId) {
+        while (true) {
+            LongAdder hits = pendingHits.computeIfAbsent(postId, id -> new LongAdder());
+            hits.increment();
+            if (pendingHits.get(postId) == hits) {
+                return;
+            }
+        }
+    }
+
+    public int getPendingHits(final Long postId) {
+        LongAdder hits = pendingHits.get(postId);
+        return hits == null ? 0 : hits.intValue();
+    }
+
+    @Scheduled(fixedDelay = FLUSH_DELAY)
+    public void flush() {
+        Map<Long, Long> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        // 같은 증가량을 가진 글끼리 묶어 한 번의 UPDATE 로 반영한다.
+        Map<Long, List<Long>> postIdsByCount = drained.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        postIdsByCount.forEach(this::flushGroup);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        List<Long> idlePostIds = new ArrayList<>();
+        pendingHits.forEach((postId, hits) -> {
+            long count = hits.sumThenReset();
+            if (count > 0) {
+                drained.put(postId, count);
+            } else {
+                idlePostIds.add(postId);
+            }
+        });
+        // 합을 비운 뒤에 들어온 증가가 있으면 제거하지 않는다. 제거된 뒤의 증가는 increaseHits 가 다시 더한다.
+        idlePostIds.forEach(postId -> pendingHits.computeIfPresent(postId, (id, hits) -> hits.sum() == 0 ? null : hits));
+        return drained;
+    }
+
+    private void flushGroup(
+            final Long count,
+            final List<Long> postIds
+    ) {
+        try {
+            postRepository.increaseHitsCount(postIds, count.intValue());
+        } catch (RuntimeException e) {
+            log.error("조회수 반영 중 에러 발생 -> {}", e.getMessage());
+            postIds.forEach(postId -> pendingHits.computeIfAbsent(postId, id -> new LongAdder()).add(count));
+            return;
+        }
+        // 글 카드의 조회수는 다시 쌓지 않고, 실패하면 보정 작업이 글의 조회수로 맞춘다.
+        try {
+            postCardUpdator.increaseHitsCount(postIds, count.intValue());
+        } catch (RuntimeException e) {
+            log.error("글 카드 조회수 반영 중 에러 발생 -> {}", e.getMessage());
+        }
+    }
+}
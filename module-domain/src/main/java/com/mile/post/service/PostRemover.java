@@ -4,10 +4,14 @@ import com.mile.aws.utils.S3Service;
 import com.mile.comment.service.CommentRemover;
 import com.mile.curious.service.CuriousRemover;
 import com.mile.moim.domain.Moim;
+import com.mile.moim.service.activity.MoimDailyActivityUpdator;
+import com.mile.moim.service.best.BestMoimSnapshotService;
+import com.mile.moim.service.popular.MoimPopularRanking;
 import com.mile.post.domain.Post;
 import com.mile.post.repository.PostRepository;
 import com.mile.topic.domain.Topic;
 import com.mile.writername.domain.WriterName;
+import com.mile.writername.service.WriterNameUpdator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +26,12 @@ public class PostRemover {
     private final S3Service s3Service;
     private final CommentRemover commentRemover;
     private final CuriousRemover curiousRemover;
+    private final MoimPopularRanking moimPopularRanking;
+    private final MoimDailyActivityUpdator moimDailyActivityUpdator;
+    private final BestMoimSnapshotService bestMoimSnapshotService;
+    private final WriterNameUpdator writerNameUpdator;
+    private final PostCardUpdator postCardUpdator;
+    private final PostBodyUpdator postBodyUpdator;
 
 
     public void deleteTemporaryPosts(
@@ -37,15 +47,19 @@ public class PostRemover {
     public void deleteTemporaryPost(
             final Post post
     ) {
+        postBodyUpdator.delete(post.getId());
         postRepository.delete(post);
-
+        writerNameUpdator.decreasePostCount(post.getWriterName());
     }
 
     public void delete(
             final Post post
     ) {
         deleteRelatedData(post);
+        postCardUpdator.delete(post);
+        postBodyUpdator.delete(post.getId());
         postRepository.delete(post);
+        writerNameUpdator.decreasePostCount(post.getWriterName());
     }
 
 
@@ -57,10 +71,16 @@ public class PostRemover {
         }
 
         WriterName writerName = post.getWriterName();
-        writerName.decreaseTotalCuriousCountByPostDelete(post.getCuriousCount());
+        int deletedCuriousCount = curiousRemover.deleteAllByPost(post);
+        writerNameUpdator.decreaseTotalCuriousCount(writerName.getId(), deletedCuriousCount);
 
-        curiousRemover.deleteAllByPost(post);
         commentRemover.deleteAllByPost(post);
+        final Long moimId = post.getTopic().getMoim().getId();
+        moimPopularRanking.removePost(moimId, post.getId(), writerName.getId());
+        if (!post.isTemporary()) {
+            moimDailyActivityUpdator.decreasePostCount(moimId, post.getCreatedAt().toLocalDate());
+            bestMoimSnapshotService.markStale();
+        }
     }
 
     private void deleteS3File(
@@ -71,10 +91,16 @@ public class PostRemover {
 
 
     public void deleteAllPostByWriterNameId(final WriterName writerName) {
+        postCardUpdator.deleteByWriterName(writerName);
+        postBodyUpdator.deleteByWriterName(writerName);
         postRepository.deleteByWriterName(writerName);
     }
 
     public void deletePostsByTopic(final List<Topic> topics) {
-        topics.forEach(postRepository::deleteByTopic);
+        topics.forEach(topic -> {
+            postCardUpdator.deleteByTopic(topic);
+            postBodyUpdator.deleteByTopic(topic);
+            postRepository.deleteByTopic(topic);
+        });
     }
 }
@@ -1,9 +1,8 @@
 package com.mile.post.service;
 
 import com.mile.comment.service.CommentCreator;
-import com.mile.comment.service.CommentRetriever;
 import com.mile.comment.service.CommentService;
-import com.mile.commentreply.service.CommentReplyRetriever;
+import com.mile.comment.service.dto.CommentPageResponse;
 import com.mile.curious.service.CuriousService;
 import com.mile.curious.service.dto.CuriousInfoResponse;
 import com.mile.exception.message.ErrorMessage;
@@ -17,7 +16,6 @@ import com.mile.post.service.dto.response.CommentListResponse;
 import com.mile.post.service.dto.response.ModifyPostGetResponse;
 import com.mile.post.service.dto.request.PostCreateRequest;
 import com.mile.post.service.dto.response.PostCuriousResponse;
-import com.mile.post.service.dto.response.PostDataResponse;
 import com.mile.post.service.dto.response.PostGetResponse;
 import com.mile.post.service.dto.request.PostPutRequest;
 import com.mile.post.service.dto.request.TemporaryPostCreateRequest;
@@ -58,9 +56,9 @@ public class PostService {
     private final SecureUrlUtil secureUrlUtil;
     private final PostCreator postCreator;
     private final CommentService commentService;
-    private final CommentRetriever commentRetriever;
     private final MoimRetriever moimRetriever;
-    private final CommentReplyRetriever commentReplyRetriever;
+    private final PostHitsCounter postHitsCounter;
+    private final PostBodyRetriever postBodyRetriever;
 
     private static final boolean CURIOUS_FALSE = false;
     private static final boolean CURIOUS_TRUE = true;
@@ -94,6 +92,7 @@ public class PostService {
         return PostCuriousResponse.of(CURIOUS_TRUE);
     }
 
+    @Transactional(readOnly = true)
     public CommentListResponse getComments(
             final Long postId,
             final HashMap<Long, WriterNameInfo> moimWriterNameMap
@@ -106,6 +105,21 @@ public class PostService {
         return CommentListResponse.of(commentService.getCommentResponse(post, writerNameId));
     }
 
+    @Transactional(readOnly = true)
+    public CommentPageResponse getCommentPage(
+            final Long postId,
+            final HashMap<Long, WriterNameInfo> moimWriterNameMap,
+            final String cursor,
+            final int size
+    ) {
+        Post post = postRetriever.findById(postId);
+        final Long writerNameId = MoimWriterNameMapUtil.getWriterNameIdMoimWriterNameMap(
+                post.getTopic().getMoim().getId(),
+                moimWriterNameMap
+        );
+        return commentService.getCommentPage(post, writerNameId, cursor, size);
+    }
+
     @Transactional(readOnly = true)
     public CuriousInfoResponse getCuriousInfoOfPost(
             final Long postId,
@@ -196,7 +210,7 @@ public class PostService {
         postRetriever.authenticateWriterWithPost(postId, writerNameId);
         isPostTemporary(post);
         List<ContentWithIsSelectedResponse> contentResponse = topicService.getContentsWithIsSelectedFromMoim(moim.getId(), selectedTopic.getId());
-        return TemporaryPostGetResponse.of(post, contentResponse);
+        return TemporaryPostGetResponse.of(post, postBodyRetriever.findContentByPostId(postId), contentResponse);
     }
 
     private void isPostTemporary(
@@ -207,14 +221,20 @@ public class PostService {
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PostGetResponse getPost(
             final Long postId
     ) {
         Post post = postRetriever.findById(postId);
-        post.increaseHits();
+        postHitsCounter.increaseHits(postId);
         Moim moim = post.getTopic().getMoim();
-        return PostGetResponse.of(post, moim, commentRetriever.countByPost(post) + commentReplyRetriever.countByPost(post));
+        return PostGetResponse.of(
+                post,
+                postBodyRetriever.findContentByPostId(postId),
+                moim,
+                post.getHitsCount() + postHitsCounter.getPendingHits(postId),
+                post.getCommentCount()
+        );
     }
 
     private Long getMoimIdFromPostId(final Long postId) {
@@ -284,7 +304,7 @@ public class PostService {
         postRetriever.authenticateWriterWithPost(post.getId(), writerNameId);
         isPostNotTemporary(post);
         List<ContentWithIsSelectedResponse> contentResponse = topicService.getContentsWithIsSelectedFromMoim(post.getTopic().getMoim().getId(), post.getTopic().getId());
-        return ModifyPostGetResponse.of(post, contentResponse);
+        return ModifyPostGetResponse.of(post, postBodyRetriever.findContentByPostId(postId), contentResponse);
     }
 
     private void isPostNotTemporary(
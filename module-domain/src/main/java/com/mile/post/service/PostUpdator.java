@@ -1,13 +1,17 @@
 package com.mile.post.service;
 
+import com.mile.moim.service.activity.MoimDailyActivityUpdator;
+import com.mile.moim.service.best.BestMoimSnapshotService;
 import com.mile.post.domain.Post;
 import com.mile.post.repository.PostRepository;
 import com.mile.post.service.dto.request.PostPutRequest;
 import com.mile.topic.domain.Topic;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -16,7 +20,12 @@ public class PostUpdator {
 
     private final PostRetriever postRetriever;
     private final PostRepository postRepository;
+    private final MoimDailyActivityUpdator moimDailyActivityUpdator;
+    private final BestMoimSnapshotService bestMoimSnapshotService;
+    private final PostCardUpdator postCardUpdator;
+    private final PostBodyUpdator postBodyUpdator;
 
+    @Transactional
     public void update(
             final Post post,
             final Topic topic,
@@ -24,6 +33,51 @@ public class PostUpdator {
     ) {
         post.updatePost(topic, putRequest);
         postRepository.save(post);
+        postBodyUpdator.update(post.getId(), putRequest.content());
+        if (!post.isTemporary()) {
+            postCardUpdator.sync(post, putRequest.content());
+            bestMoimSnapshotService.markStale();
+        }
+    }
+
+    public void increaseCuriousCount(
+            final Post post
+    ) {
+        postRepository.increaseCuriousCount(post.getId());
+        postCardUpdator.increaseCuriousCount(post.getId());
+    }
+
+    public void decreaseCuriousCount(
+            final Post post
+    ) {
+        postRepository.decreaseCuriousCount(post.getId());
+        postCardUpdator.decreaseCuriousCount(post.getId());
+    }
+
+    public void increaseCommentCount(
+            final Long postId
+    ) {
+        postRepository.increaseCommentCount(postId);
+        postCardUpdator.increaseCommentCount(postId);
+    }
+
+    public void decreaseCommentCount(
+            final Long postId,
+            final int count
+    ) {
+        if (count > 0) {
+            postRepository.decreaseCommentCount(postId, count);
+            postCardUpdator.decreaseCommentCount(postId, count);
+        }
+    }
+
+    public void recountCommentCount(
+            final List<Long> postIds
+    ) {
+        if (!postIds.isEmpty()) {
+            postRepository.recountCommentCount(postIds);
+            postCardUpdator.syncCounts(postIds);
+        }
     }
 
     public void updateTemporaryPost(
@@ -34,6 +88,7 @@ public class PostUpdator {
         post.setTemporary(false);
         post.updateCratedAt(LocalDateTime.now());
         update(post, topic, putRequest);
+        moimDailyActivityUpdator.increasePostCount(topic.getMoim().getId());
     }
 
 }
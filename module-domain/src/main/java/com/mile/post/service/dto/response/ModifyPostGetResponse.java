@@ -11,11 +11,11 @@ public record ModifyPostGetResponse(
         String imageUrl,
         boolean anonymous
 ) {
-    public static ModifyPostGetResponse of(Post post, List<ContentWithIsSelectedResponse> contentResponse) {
+    public static ModifyPostGetResponse of(Post post, String content, List<ContentWithIsSelectedResponse> contentResponse) {
         return new ModifyPostGetResponse(
                 contentResponse,
                 post.getTitle(),
-                post.getContent(),
+                content,
                 post.getImageUrl(),
                 post.isAnonymous()
         );
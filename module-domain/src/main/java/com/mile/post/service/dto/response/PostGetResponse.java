@@ -20,7 +20,7 @@ public record PostGetResponse(
     private final static String ANONYMOUS = "작자미상";
     private final static String ANONYMOUS_INFO = "익명으로 작성한 사용자입니다.";
 
-    public static PostGetResponse of(Post post, Moim moim, int commentCount) {
+    public static PostGetResponse of(Post post, String content, Moim moim, int hitsCount, int commentCount) {
 
         String writerName = post.getWriterName().getName();
         String information = post.getWriterName().getInformation();
@@ -32,12 +32,12 @@ public record PostGetResponse(
                 post.getTopic().getContent(),
                 DateUtil.getKoreanStringOfLocalDateWithTime(post.getCreatedAt()),
                 post.getTitle(),
-                post.getContent(),
+                content,
                 post.getImageUrl(),
                 writerName,
                 moim.getName(),
                 information,
-                post.getHitsCount(),
+                hitsCount,
                 post.getCuriousCount(),
                 commentCount
         );
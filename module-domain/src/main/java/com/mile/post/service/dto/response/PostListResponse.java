@@ -1,8 +1,7 @@
 package com.mile.post.service.dto.response;
 
-import com.mile.post.domain.Post;
 import com.mile.common.utils.DateUtil;
-import com.mile.common.utils.JsoupUtil;
+import com.mile.post.domain.PostCard;
 
 public record PostListResponse(
         String postId,
@@ -16,32 +15,15 @@ public record PostListResponse(
         String imageUrl,
         Boolean isImageContained
 ) {
-    private static final int SUBSTRING_START = 0;
-    private static final int SUBSTRING_END = 400;
-    private static final String UNNAMED = "작자미상";
-    public static PostListResponse of(final Post post, final int commentCount) {
+    public static PostListResponse of(final PostCard postCard) {
 
-        return new PostListResponse(post.getIdUrl(), post.getTitle(), getSubString(post),
-                getWriterName(post),
-                DateUtil.getStringWithTimeOfLocalDate(post.getCreatedAt()),
-                post.getCuriousCount(),
-                post.getHitsCount(),
-                commentCount,
-                post.getImageUrl(),
-                post.isContainPhoto());
-    }
-
-    private static String getWriterName(final Post post) {
-        if(post.isAnonymous()) return UNNAMED;
-        else return post.getWriterName().getName();
-    }
-    
-    private static String getSubString(final Post post) {
-        String cleanContent = JsoupUtil.toPlainText(post.getContent());
-        if (cleanContent.length() >= SUBSTRING_END) {
-            return cleanContent.substring(SUBSTRING_START, SUBSTRING_END);
-        } else {
-            return cleanContent;
-        }
+        return new PostListResponse(postCard.getIdUrl(), postCard.getTitle(), postCard.getExcerpt(),
+                postCard.getWriterName(),
+                DateUtil.getStringWithTimeOfLocalDate(postCard.getPostCreatedAt()),
+                postCard.getCuriousCount(),
+                postCard.getHitsCount(),
+                postCard.getCommentCount(),
+                postCard.getImageUrl(),
+                postCard.isContainPhoto());
     }
 }
@@ -12,11 +12,11 @@ public record TemporaryPostGetResponse(
         String imageUrl,
         boolean anonymous
 ) {
-    public static TemporaryPostGetResponse of(Post post, List<ContentWithIsSelectedResponse> contentResponse) {
+    public static TemporaryPostGetResponse of(Post post, String content, List<ContentWithIsSelectedResponse> contentResponse) {
         return new TemporaryPostGetResponse(
                 contentResponse,
                 post.getTitle(),
-                post.getContent(),
+                content,
                 post.getImageUrl(),
                 post.isAnonymous()
         );
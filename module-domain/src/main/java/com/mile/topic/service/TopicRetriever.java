@@ -1,7 +1,5 @@
 package com.mile.topic.service;
 
-import com.mile.comment.service.CommentRetriever;
-import com.mile.commentreply.service.CommentReplyRetriever;
 import com.mile.common.config.BaseTimeEntity;
 import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.BadRequestException;
@@ -10,8 +8,8 @@ import com.mile.exception.model.NotFoundException;
 import com.mile.moim.domain.Moim;
 import com.mile.moim.service.dto.response.MoimTopicInfoListResponse;
 import com.mile.moim.service.dto.response.MoimTopicInfoResponse;
-import com.mile.post.domain.Post;
-import com.mile.post.service.PostRetriever;
+import com.mile.post.domain.PostCard;
+import com.mile.post.service.PostCardRetriever;
 import com.mile.post.service.dto.response.PostListResponse;
 import com.mile.topic.domain.Topic;
 import com.mile.topic.repository.TopicRepository;
@@ -42,11 +40,9 @@ public class TopicRetriever {
     private static final int TOPIC_PER_PAGE_SIZE = 4;
 
     private final TopicRepository topicRepository;
-    private final PostRetriever postRetriever;
+    private final PostCardRetriever postCardRetriever;
     private final SecureUrlUtil secureUrlUtil;
-    private final CommentRetriever commentRetriever;
     private final UserRetriever userRetriever;
-    private final CommentReplyRetriever commentReplyRetriever;
 
 
     public void authenticateTopicWithUser(
@@ -80,11 +76,11 @@ public class TopicRetriever {
             final String lastPostId
     ) {
         Topic topic = findById(topicId);
-        Slice<Post> posts = postRetriever.findByTopicAndLastPostId(topic, secureUrlUtil.decodeIfNotNull(lastPostId));
+        Slice<PostCard> postCards = postCardRetriever.findByTopicAndLastPostId(topic.getId(), secureUrlUtil.decodeIfNotNull(lastPostId));
         return PostListInTopicResponse.of(TopicOfMoimResponse.of(topic),
-                posts.stream().sorted(Comparator.comparing(BaseTimeEntity::getCreatedAt).reversed())
-                        .map(p -> PostListResponse.of(p, commentRetriever.countByPost(p) + commentReplyRetriever.countByPost(p))).toList(),
-                posts.hasNext()
+                postCards.stream().sorted(Comparator.comparing(PostCard::getPostCreatedAt).reversed())
+                        .map(PostListResponse::of).toList(),
+                postCards.hasNext()
         );
     }
 
@@ -1,5 +1,6 @@
 package com.mile.topic.service;
 
+import com.mile.post.service.PostCardUpdator;
 import com.mile.topic.domain.Topic;
 import com.mile.topic.service.dto.request.TopicPutRequest;
 import com.mile.user.domain.User;
@@ -14,6 +15,7 @@ public class TopicUpdator {
 
     private final TopicRetriever topicRetriever;
     private final UserService userService;
+    private final PostCardUpdator postCardUpdator;
 
 
     @Transactional
@@ -26,6 +28,7 @@ public class TopicUpdator {
         User user = userService.findById(userId);
         topicRetriever.authenticateTopicWithUser(topic, user);
         topic.updateTopic(topicPutRequest);
+        postCardUpdator.updateTopicName(topic);
     }
 
 }
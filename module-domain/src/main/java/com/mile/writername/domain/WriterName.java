@@ -18,11 +18,13 @@ import jakarta.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import reactor.util.annotation.NonNull;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@DynamicUpdate
 @Table(name = "writer_name", uniqueConstraints = @UniqueConstraint(columnNames = {"moim_id", "normalized_name"}))
 public class WriterName {
     @Id
@@ -42,36 +44,24 @@ public class WriterName {
 
     private Integer totalCuriousCount;
 
+    private int postCount;
+    private int commentCount;
+    private int replyCount;
+
     @PrePersist
     @PreUpdate
     public void normalizeName() {
         this.normalizedName = this.name.replaceAll("\\s+", "").toLowerCase();
     }
 
-    public void increaseTotalCuriousCount() {
-        totalCuriousCount++;
-    }
-
     @Override
     public boolean equals(@NonNull final Object writerName) {
         WriterName that = (WriterName) writerName;
         return id.equals(that.getId());
     }
 
-    public void decreaseTotalCuriousCount() {
-        totalCuriousCount--;
-        validateTotalCuriousCount();
-    }
-
-    private void validateTotalCuriousCount() {
-        if( this.totalCuriousCount < 0 ) {
-            this.totalCuriousCount = 0;
-        }
-    }
-
-    public void decreaseTotalCuriousCountByPostDelete(final int count) {
-        this.totalCuriousCount -= count;
-        validateTotalCuriousCount();
+    public int getTotalCommentCount() {
+        return commentCount + replyCount;
     }
 
     public void updateInformation(WriterNameDescriptionUpdateRequest request) {
@@ -3,7 +3,6 @@ package com.mile.writername.repository;
 import com.mile.moim.domain.Moim;
 import com.mile.user.domain.User;
 import com.mile.writername.domain.WriterName;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -22,16 +21,12 @@ public interface WriterNameRepository extends JpaRepository<WriterName, Long> {
 
     List<WriterName> findByWriter(final User user);
 
-    List<WriterName> findByMoimId(final Long moimId);
-
     boolean existsWriterNameByMoimAndNormalizedName(final Moim moim, final String normalizedName);
 
-    int countByMoim(final Moim moim);
-
     List<WriterName> findTop2ByMoimAndTotalCuriousCountGreaterThanOrderByTotalCuriousCountDesc(final Moim moim, final int totalCuriousCount);
 
-    @Query("SELECT w FROM WriterName w WHERE w.moim.id = :moimId ORDER BY CASE WHEN w = :owner THEN 0 ELSE 1 END, w.id ASC")
-    Page<WriterName> findByMoimIdOrderByOwnerFirstAndIdAsc(@Param("moimId") Long moimId, @Param("owner") WriterName owner, Pageable pageable);
+    @Query("SELECT w FROM WriterName w WHERE w.moim.id = :moimId ORDER BY w.id ASC")
+    List<WriterName> findPageByMoimId(@Param("moimId") Long moimId, Pageable pageable);
 
 
     Optional<WriterName> findById(final Long id);
@@ -41,6 +36,81 @@ public interface WriterNameRepository extends JpaRepository<WriterName, Long> {
 
     Integer countAllByWriter(final User user);
 
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.totalCuriousCount = w.totalCuriousCount + 1 WHERE w.id = :writerNameId")
+    void increaseTotalCuriousCount(@Param("writerNameId") Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.totalCuriousCount = w.totalCuriousCount - 1 WHERE w.id = :writerNameId AND w.totalCuriousCount > 0")
+    void decreaseTotalCuriousCount(@Param("writerNameId") Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.totalCuriousCount = CASE WHEN w.totalCuriousCount > :count THEN w.totalCuriousCount - :count ELSE 0 END WHERE w.id = :writerNameId")
+    void decreaseTotalCuriousCountBy(@Param("writerNameId") Long writerNameId, @Param("count") int count);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.postCount = w.postCount + 1 WHERE w.id = :writerNameId")
+    void increasePostCount(@Param("writerNameId") Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.postCount = w.postCount - 1 WHERE w.id = :writerNameId AND w.postCount > 0")
+    void decreasePostCount(@Param("writerNameId") Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.commentCount = w.commentCount + 1 WHERE w.id = :writerNameId")
+    void increaseCommentCount(@Param("writerNameId") Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.commentCount = w.commentCount - 1 WHERE w.id = :writerNameId AND w.commentCount > 0")
+    void decreaseCommentCount(@Param("writerNameId") Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.replyCount = w.replyCount + 1 WHERE w.id = :writerNameId")
+    void increaseReplyCount(@Param("writerNameId") Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.replyCount = w.replyCount - 1 WHERE w.id = :writerNameId AND w.replyCount > 0")
+    void decreaseReplyCount(@Param("writerNameId") Long writerNameId);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE WriterName w
+        SET w.postCount = (SELECT count(p) FROM Post p WHERE p.writerName.id = w.id),
+            w.commentCount = (SELECT count(c) FROM Comment c WHERE c.writerName.id = w.id),
+            w.replyCount = (SELECT count(r) FROM CommentReply r WHERE r.writerName.id = w.id)
+        WHERE w.id IN :writerNameIds
+    """)
+    int recountActivityCount(@Param("writerNameIds") List<Long> writerNameIds);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE WriterName w
+        SET w.postCount = (SELECT count(p) FROM Post p WHERE p.writerName.id = w.id),
+            w.commentCount = (SELECT count(c) FROM Comment c WHERE c.writerName.id = w.id),
+            w.replyCount = (SELECT count(r) FROM CommentReply r WHERE r.writerName.id = w.id)
+        WHERE w.id BETWEEN :fromId AND :toId
+    """)
+    int recountActivityCountBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE WriterName w SET w.totalCuriousCount = (SELECT count(c) FROM Curious c WHERE c.post.writerName.id = w.id) WHERE w.id BETWEEN :fromId AND :toId")
+    int recountTotalCuriousCountBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT max(w.id) FROM WriterName w")
+    Long findMaxId();
+
     @Transactional
     @Modifying
     @Query("DELETE FROM WriterName w WHERE w.moim = :moim AND w != :owner")
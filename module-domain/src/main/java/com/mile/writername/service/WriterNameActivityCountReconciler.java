@@ -0,0 +1,47 @@
+package com.mile.writername.service;
+
+import com.mile.common.batch.IdRangeBatchRunner;
+import com.mile.moim.service.MoimUpdator;
+import com.mile.writername.repository.WriterNameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 필명 별 글/댓글/답글 수와 글모임 별 필명 수 비정규화 값을 실제 행 수로 다시 맞춘다.
+ * <p>
+ * 글모임 필명 목록은 이 값을 그대로 읽으므로, 일괄 삭제로 어긋난 값은 이 작업이 매일 새벽 ID 구간 단위로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WriterNameActivityCountReconciler {
+
+    private static final String JOB_NAME = "필명 활동 수 보정";
+    private static final Duration RECONCILE_LEASE = Duration.ofMinutes(30);
+    private static final String RECONCILE_LOCK = "WRITER_NAME_ACTIVITY_COUNT_RECONCILE_LOCK";
+
+    private final WriterNameRepository writerNameRepository;
+    private final MoimUpdator moimUpdator;
+    private final IdRangeBatchRunner idRangeBatchRunner;
+
+    @Scheduled(cron = "0 45 4 * * *")
+    public void reconcileForScheduled() {
+        if (!idRangeBatchRunner.tryAcquireLease(JOB_NAME, RECONCILE_LOCK, RECONCILE_LEASE)) {
+            return;
+        }
+        reconcile();
+    }
+
+    public int reconcile() {
+        try {
+            moimUpdator.recountWriterNameCount();
+        } catch (RuntimeException e) {
+            log.error("글모임 필명 수 보정 중 에러 발생 -> {}", e.getMessage());
+        }
+        return idRangeBatchRunner.run(JOB_NAME, writerNameRepository.findMaxId(), writerNameRepository::recountActivityCountBetween);
+    }
+}
@@ -3,6 +3,7 @@ package com.mile.writername.service;
 import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.ConflictException;
 import com.mile.moim.domain.Moim;
+import com.mile.moim.service.MoimUpdator;
 import com.mile.moim.service.dto.request.WriterMemberJoinRequest;
 import com.mile.user.domain.User;
 import com.mile.writername.domain.WriterName;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class WriterNameCreator {
     private final WriterNameRepository writerNameRepository;
+    private final MoimUpdator moimUpdator;
 
     public WriterName createWriterName(final User user, final Moim moim, final WriterMemberJoinRequest joinRequest) {
         WriterName writerName;
@@ -24,6 +26,7 @@ public class WriterNameCreator {
         } catch (DataIntegrityViolationException e) {
             throw new ConflictException(ErrorMessage.WRITER_NAME_ALREADY_EXIST);
         }
+        moimUpdator.increaseWriterNameCount(moim);
         return writerName;
     }
 }
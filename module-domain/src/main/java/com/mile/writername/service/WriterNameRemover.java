@@ -1,16 +1,25 @@
 package com.mile.writername.service;
 
 import com.mile.comment.service.CommentRemover;
+import com.mile.comment.service.CommentRetriever;
 import com.mile.commentreply.service.CommentReplyRemover;
+import com.mile.commentreply.service.CommentReplyRetriever;
 import com.mile.curious.service.CuriousRemover;
 import com.mile.moim.domain.Moim;
+import com.mile.moim.service.MoimUpdator;
 import com.mile.post.service.PostRemover;
+import com.mile.post.service.PostUpdator;
 import com.mile.writername.domain.WriterName;
 import com.mile.writername.repository.WriterNameRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 public class WriterNameRemover {
@@ -20,6 +29,11 @@ public class WriterNameRemover {
     private final CommentRemover commentRemover;
     private final CuriousRemover curiousRemover;
     private final PostRemover postRemover;
+    private final PostUpdator postUpdator;
+    private final CommentRetriever commentRetriever;
+    private final CommentReplyRetriever commentReplyRetriever;
+    private final WriterNameUpdator writerNameUpdator;
+    private final MoimUpdator moimUpdator;
 
     public void deleteWriterNamesByMoim(
             final Moim moim
@@ -28,15 +42,20 @@ public class WriterNameRemover {
     }
 
     public void deleteRelatedData(final WriterName writerName) {
+        Set<Long> commentedPostIds = new HashSet<>(commentRetriever.findPostIdsByWriterName(writerName));
+        commentedPostIds.addAll(commentReplyRetriever.findPostIdsByWriterName(writerName));
         commentReplyRemover.deleteRepliesByWriterName(writerName);
         commentRemover.deleteAllCommentByWriterNameId(writerName);
+        postUpdator.recountCommentCount(new ArrayList<>(commentedPostIds));
         curiousRemover.deleteAllByWriterName(writerName);
         postRemover.deleteAllPostByWriterNameId(writerName);
+        writerNameUpdator.recountActivityCount(List.of(writerName.getId()));
     }
 
     public void deleteWriterName(final WriterName writerName) {
         deleteRelatedData(writerName);
         writerNameRepository.delete(writerName);
+        moimUpdator.decreaseWriterNameCount(writerName.getMoim());
     }
 
     @Transactional
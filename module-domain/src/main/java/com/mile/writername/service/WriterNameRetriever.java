@@ -11,7 +11,6 @@ import com.mile.writername.repository.WriterNameRepository;
 import com.mile.writername.service.dto.response.WriterNameInformationResponse;
 import com.mile.writername.service.vo.WriterNameInfo;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
@@ -109,18 +108,6 @@ public class WriterNameRetriever {
         return findById(getWriterNameIdByMoimIdAndUserId(moimId, userId));
     }
 
-    public int findNumbersOfWritersByMoimId(
-            final Long moimId
-    ) {
-        return writerNameRepository.findByMoimId(moimId).size();
-    }
-
-    public int findNumbersOfWritersByMoim(
-            final Moim moim
-    ) {
-        return writerNameRepository.countByMoim(moim);
-    }
-
     public Map<Long, WriterNameInfo> getJoinedRoleFromUserId(final Long userId) {
         return writerNameRepository.findAllByWriterId(userId).stream().collect(
                 Collectors.toMap(writerName -> writerName.getMoim().getId(), this::getWriterNameMoimRole)
@@ -131,11 +118,18 @@ public class WriterNameRetriever {
         return WriterNameInfo.of(writerName.getId(), writerName.getMoim().getOwner().equals(writerName) ? MoimRole.OWNER : MoimRole.WRITER);
     }
 
+    public List<WriterName> findAllByIds(final List<Long> writerNameIds) {
+        return writerNameRepository.findAllById(writerNameIds);
+    }
+
     public List<WriterName> findTop2ByCuriousCount(final Moim moim) {
         return writerNameRepository.findTop2ByMoimAndTotalCuriousCountGreaterThanOrderByTotalCuriousCountDesc(moim, MIN_TOTAL_CURIOUS_COUNT);
     }
 
-    public Page<WriterName> findWriterNameByMoimIdOrderByOwnerFirstAndIdAsc(final Long moimId, final WriterName owner, final PageRequest pageRequest) {
-        return writerNameRepository.findByMoimIdOrderByOwnerFirstAndIdAsc(moimId, owner, pageRequest);
+    /*
+    방장 필명은 글모임 생성 시 가장 먼저 만들어지므로, ID 순 정렬만으로 방장이 첫 번째에 온다.
+     */
+    public List<WriterName> findPageByMoimId(final Long moimId, final PageRequest pageRequest) {
+        return writerNameRepository.findPageByMoimId(moimId, pageRequest);
     }
 }
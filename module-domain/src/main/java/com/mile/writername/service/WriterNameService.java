@@ -1,7 +1,5 @@
 package com.mile.writername.service;
 
-import com.mile.comment.service.CommentRetriever;
-import com.mile.commentreply.service.CommentReplyRetriever;
 import com.mile.exception.message.ErrorMessage;
 import com.mile.exception.model.BadRequestException;
 import com.mile.exception.model.ConflictException;
@@ -11,7 +9,6 @@ import com.mile.moim.service.MoimRemover;
 import com.mile.moim.service.MoimRetriever;
 import com.mile.moim.service.dto.response.MoimWriterNameListGetResponse;
 import com.mile.moim.service.dto.request.WriterMemberJoinRequest;
-import com.mile.post.service.PostRetriever;
 import com.mile.user.domain.User;
 import com.mile.user.service.UserRetriever;
 import com.mile.writername.domain.WriterName;
@@ -19,9 +16,7 @@ import com.mile.writername.service.dto.response.WriterNameDescriptionResponse;
 import com.mile.writername.service.dto.request.WriterNameDescriptionUpdateRequest;
 import com.mile.writername.service.dto.response.WriterNameInfoResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,8 +28,6 @@ import java.util.List;
 public class WriterNameService {
     private final MoimRetriever moimRetriever;
     private final UserRetriever userRetriever;
-    private final PostRetriever postRetriever;
-    private final CommentRetriever commentRetriever;
     private final WriterNameRemover writerNameRemover;
     private final WriterNameRetriever writerNameRetriever;
     private final WriterNameCreator writerNameCreator;
@@ -42,7 +35,6 @@ public class WriterNameService {
 
     private static final int WRITERNAME_PER_PAGE_SIZE = 5;
     private static final int WRITERNAME_MAX_SIZE = 5;
-    private final CommentReplyRetriever commentReplyRetriever;
 
     public WriterNameDescriptionResponse findWriterNameDescription(
             final Long userId,
@@ -118,20 +110,18 @@ public class WriterNameService {
             final Moim moim,
             final int page
     ) {
-        final Long moimId = moim.getId();
-        PageRequest pageRequest = PageRequest.of(page - 1, WRITERNAME_PER_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "id"));
-        Page<WriterName> writerNamePage = writerNameRetriever.findWriterNameByMoimIdOrderByOwnerFirstAndIdAsc(moimId, moim.getOwner(), pageRequest);
-        List<WriterNameInfoResponse> infoResponses = writerNamePage.getContent()
+        List<WriterNameInfoResponse> infoResponses = writerNameRetriever.findPageByMoimId(moim.getId(), PageRequest.of(page - 1, WRITERNAME_PER_PAGE_SIZE))
                 .stream()
                 .map(writerName -> WriterNameInfoResponse.of(writerName.getId(), writerName.getName(),
-                        postRetriever.findPostCountByWriterNameId(writerName.getId()),
-                        commentRetriever.findCommentCountByWriterName(writerName) + commentReplyRetriever.countByWriterName(writerName),
+                        writerName.getPostCount(),
+                        writerName.getTotalCommentCount(),
                         writerName.equals(moim.getOwner())))
                 .toList();
 
+        final int writerNameCount = moim.getWriterNameCount();
         return MoimWriterNameListGetResponse.of(
-                writerNamePage.getTotalPages(),
-                writerNameRetriever.findNumbersOfWritersByMoimId(moimId),
+                (writerNameCount + WRITERNAME_PER_PAGE_SIZE - 1) / WRITERNAME_PER_PAGE_SIZE,
+                writerNameCount,
                 infoResponses
         );
     }
@@ -6,6 +6,9 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class WriterNameUpdator {
@@ -15,14 +18,66 @@ public class WriterNameUpdator {
     public void decreaseTotalCuriousCountByWriterName(
             final WriterName writerName
     ) {
-        writerName.decreaseTotalCuriousCount();
-        writerNameRepository.save(writerName);
+        writerNameRepository.decreaseTotalCuriousCount(writerName.getId());
+    }
+
+    public void decreaseTotalCuriousCount(
+            final Long writerNameId,
+            final int count
+    ) {
+        writerNameRepository.decreaseTotalCuriousCountBy(writerNameId, count);
     }
 
     public void increaseTotalCuriousCountByWriterName(
             final WriterName writerName
     ) {
-        writerName.increaseTotalCuriousCount();
-        writerNameRepository.save(writerName);
+        writerNameRepository.increaseTotalCuriousCount(writerName.getId());
+    }
+
+    public void increasePostCount(
+            final WriterName writerName
+    ) {
+        writerNameRepository.increasePostCount(writerName.getId());
+    }
+
+    public void decreasePostCount(
+            final WriterName writerName
+    ) {
+        writerNameRepository.decreasePostCount(writerName.getId());
+    }
+
+    public void increaseCommentCount(
+            final WriterName writerName
+    ) {
+        writerNameRepository.increaseCommentCount(writerName.getId());
+    }
+
+    public void decreaseCommentCount(
+            final WriterName writerName
+    ) {
+        writerNameRepository.decreaseCommentCount(writerName.getId());
+    }
+
+    public void increaseReplyCount(
+            final WriterName writerName
+    ) {
+        writerNameRepository.increaseReplyCount(writerName.getId());
+    }
+
+    public void decreaseReplyCount(
+            final WriterName writerName
+    ) {
+        writerNameRepository.decreaseReplyCount(writerName.getId());
+    }
+
+    /*
+    여러 필명의 글/댓글이 한 번에 지워질 때는 건별 감소 대신 실제 개수로 다시 센다.
+     */
+    public void recountActivityCount(
+            final Collection<Long> writerNameIds
+    ) {
+        if (!writerNameIds.isEmpty()) {
+            writerNameRepository.recountActivityCount(List.copyOf(writerNameIds));
+        }
     }
 }
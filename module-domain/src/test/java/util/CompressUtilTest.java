@@ -0,0 +1,42 @@
+package util;
+
+import com.mile.common.utils.CompressUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class CompressUtilTest {
+
+    @Test
+    void testShortTextIsStoredPlain() {
+        String request = "<p>짧은 글</p>";
+
+        byte[] encoded = CompressUtil.encode(request);
+
+        assertThat(encoded[0]).isEqualTo(CompressUtil.FORMAT_PLAIN);
+        assertThat(CompressUtil.decode(encoded)).isEqualTo(request);
+    }
+
+    @Test
+    void testLongHtmlIsCompressed() {
+        String request = "<p>오늘의 글감에 대해 써 본 글입니다.</p><p><br></p>".repeat(300);
+
+        byte[] encoded = CompressUtil.encode(request);
+
+        assertThat(encoded[0]).isEqualTo(CompressUtil.FORMAT_DEFLATE);
+        assertThat(encoded.length < request.getBytes(StandardCharsets.UTF_8).length).isTrue();
+        assertThat(CompressUtil.decodedLength(encoded)).isEqualTo(request.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(CompressUtil.decode(encoded)).isEqualTo(request);
+    }
+
+    @Test
+    void testLegacyTextWithoutMarker() {
+        String request = "<p>My<p/><p>name<p/>is";
+
+        String result = CompressUtil.decode(request.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(result).isEqualTo(request);
+    }
+}
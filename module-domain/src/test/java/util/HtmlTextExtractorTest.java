@@ -0,0 +1,132 @@
+package util;
+
+import com.mile.common.utils.HtmlTextExtractor;
+import com.mile.common.utils.JsoupUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class HtmlTextExtractorTest {
+
+    private static final String[] POSTS = {
+            "<p>My<p/><p>name<p/>is",
+            "<p>안녕하세요&nbsp;반갑습니다</p><p><br></p><p>두 번째 문단 &amp; 이야기 &lt;태그&gt;</p>",
+            "<p><strong>굵게</strong> 쓰고 <em>기울여</em> 썼다.</p>\n<p>다음</p>",
+            "<p class=\"ql-align-center\"><span style=\"color: rgb(0, 0, 0);\">가운데</span></p><p><img src=\"https://x/y.png\" alt=\"a > b\"></p><p>끝</p>",
+            "<h2>제목</h2><blockquote>인용</blockquote><ul><li>하나<li>둘</ul>뒤",
+            "<pre>\n  code\n  here</pre><p>after</p>",
+            "&#65;&#x42; &hellip; &amp &notit; &#128512; a < b",
+            "   앞 공백 <p>  여러   칸   </p>   ",
+            "<ul><li>하나</li><li>둘</li><li>셋</li></ul><p>뒤</p>",
+            "<ol><li>첫째<ol><li>안쪽</li></ol></li><li>둘째</li></ol>",
+            "<ul><li><p>문단 안 항목</p></li><li>다음</li></ul>",
+            "<ul><li>a<li>b<ul><li>c<li>d</ul><li>e</ul>",
+            "<li>목록 없이<li>둘",
+            "<li>a<ul>b</li>c</ul>d",
+            "<dl><dt>용어<dd>설명<dt>용어2<dd>설명2</dl>끝",
+            "<table><tr><td>a</td><td>b</td></tr><tr><td>c</td><td>d</td></tr></table>",
+            "<table><thead><tr><th>머리</th></tr></thead><tbody><tr><td>몸</td></tr></tbody></table>뒤",
+            "<table><tr><td><p>셀 문단</p><p>둘</p></td></tr></table>",
+            "<table>바깥 글자<tr><td>셀</td></tr></table>",
+            "<table><tr><td>a<td>b<tr><td>c</table>",
+            "<p>a<table><tr><td>b</td></tr></table>c</p>",
+            "<td>표 없이</td>글",
+            "<div><p>안<span>인라인</span></p>글자</div>",
+            "<p>하나<div>블록</div>둘</p>",
+            "<span>가<div>나</div>다</span>",
+            "<div><div><div>깊은</div></div>바깥</div>",
+            "<section><article><p>a</p></article><aside>b</aside></section>",
+            "<p>문단<ul><li>항목</li></ul>뒤</p>",
+            "<blockquote><p>인용 <em>강조</em></p>출처</blockquote>",
+            "<p><b>굵게<i>둘 다</b>기울임</i>보통</p>",
+            "<b><p>블록 안 굵게</p></b>",
+            "<b>a<p>b</b>c</p>",
+            "<a href=\"x\">링크<div>블록</div></a>뒤",
+            "<a>하나<a>둘</a>",
+            "<p>미닫힘 <b>굵게",
+            "<p><b>x</p>y</b>z",
+            "<p>a</b>b</i>c</p>",
+            "</div>앞에 닫기<p>글</p>",
+            "<p>열린 문단<p>다음 문단",
+            "<h1>제목<h2>부제</h2>본문",
+            "<div>a<br>b<br/>c</br>d</div>",
+            "<p>a<br></p><p><br></p><p>b</p>",
+            "<p>a<hr>b</p>",
+            "<p>x</p><!-- 주석 --><p>y</p>",
+            "<pre>  a\n  b</pre>뒤<pre><code> c  d </code></pre>",
+            "<p>  <span> 공백 </span>  <span> 두 </span> </p>",
+            "<u><s>겹친</s></u><sub>1</sub><sup>2</sup><del>지움</del><ins>넣음</ins>",
+            "<font color=red>옛 태그<center>가운데</center></font>",
+            "<form><input value=a>폼<select><option>o1<option>o2</select></form>",
+            "<button>버튼</button><label>라벨</label><textarea>  텍스트 영역 </textarea>",
+            "<script>var a = '<p>';</script><style>p { color: red; }</style>본문",
+            "<html><head><title>제목</title></head><body><p>본문</p></body></html>",
+            "<!DOCTYPE html><p>문서</p>",
+            "<p>&lt;div&gt; 글자 &copy; &#169; &#xA9; &apos;</p>",
+            "<p a='x>y' b=c/>속성</p>",
+            "<p>끝나지 않은 태그<span class=\"a"
+    };
+    private static final String[] GENERATED_TAGS = {
+            "p", "div", "span", "b", "i", "em", "strong", "u", "s", "a", "ul", "ol", "li", "h1", "h2",
+            "blockquote", "pre", "br", "img", "hr", "sub", "sup", "code", "small", "table", "td", "font"
+    };
+    private static final String[] GENERATED_ATTRIBUTES = {"", " class=\"ql-align-center\"", " href='a>b'", " x=y/", " /"};
+    private static final String[] GENERATED_TEXTS = {
+            "가", "나 다", " ", "\n", "a", "&nbsp;", "&amp;", "&lt;", "&#65;", "&copy;", "& ", "<!-- c -->", "<3"
+    };
+    private static final int GENERATED_POST_COUNT = 5000;
+    private static final int GENERATED_TOKEN_COUNT = 40;
+
+    @Test
+    void testParse() {
+        String request = "<p>My<p/><p>name<p/>is";
+
+        String expected = "My name is";
+        String result = HtmlTextExtractor.toPlainText(request, Integer.MAX_VALUE);
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void testSameAsJsoupUtil() {
+        for (String post : POSTS) {
+            String expected = JsoupUtil.toPlainText(post);
+
+            for (int maxLength = 1; maxLength <= expected.length() + 1; maxLength++) {
+                String result = HtmlTextExtractor.toPlainText(post, maxLength);
+
+                assertThat(result).isEqualTo(expected.substring(0, Math.min(maxLength, expected.length())));
+            }
+        }
+    }
+
+    @Test
+    void testSameAsJsoupUtilOnGeneratedHtml() {
+        Random random = new Random(0);
+        for (int i = 0; i < GENERATED_POST_COUNT; i++) {
+            String post = generatePost(random);
+            String expected = JsoupUtil.toPlainText(post);
+            int maxLength = 1 + random.nextInt(expected.length() + 1);
+
+            assertThat(HtmlTextExtractor.toPlainText(post, Integer.MAX_VALUE)).isEqualTo(expected);
+            assertThat(HtmlTextExtractor.toPlainText(post, maxLength))
+                    .isEqualTo(expected.substring(0, Math.min(maxLength, expected.length())));
+        }
+    }
+
+    private String generatePost(final Random random) {
+        StringBuilder post = new StringBuilder();
+        for (int i = 0; i < GENERATED_TOKEN_COUNT; i++) {
+            String tag = GENERATED_TAGS[random.nextInt(GENERATED_TAGS.length)];
+            switch (random.nextInt(3)) {
+                case 0 -> post.append(GENERATED_TEXTS[random.nextInt(GENERATED_TEXTS.length)]);
+                case 1 -> post.append('<').append(tag)
+                        .append(GENERATED_ATTRIBUTES[random.nextInt(GENERATED_ATTRIBUTES.length)]).append('>');
+                default -> post.append("</").append(tag).append('>');
+            }
+        }
+        return post.toString();
+    }
+}